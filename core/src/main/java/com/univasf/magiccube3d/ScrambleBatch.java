@@ -0,0 +1,274 @@
+package com.univasf.magiccube3d;
+
+import com.univasf.magiccube3d.model.Move;
+import com.univasf.magiccube3d.solver.Scrambler;
+import com.univasf.magiccube3d.solver.TwoPhaseSolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gerador de embaralhamentos em lote, sem interface gráfica (não inicia o JavaFX).
+ * <p>
+ * Os embaralhamentos são divididos em blocos de {@value #BLOCK_SIZE}, e cada bloco tem seu próprio
+ * {@link SplittableRandom}, derivado da semente por {@link SplittableRandom#split()} na ordem dos
+ * blocos. As threads de trabalho pegam o próximo bloco livre e o enviam pronto a uma thread de
+ * escrita, que grava os blocos na ordem dos índices, um embaralhamento por linha, em notação
+ * Singmaster. Assim, com {@code --seed} o arquivo gerado é sempre o mesmo, qualquer que seja o
+ * número de threads. Ao final são informadas a vazão e os percentis de latência por embaralhamento.
+ * </p>
+ *
+ * <pre>
+ * java -cp magiccube3d.jar com.univasf.magiccube3d.ScrambleBatch 1000000 scrambles.txt --threads 8 --seed 42
+ * </pre>
+ */
+public class ScrambleBatch {
+
+    private static final String USAGE = "Uso: ScrambleBatch <quantidade> <arquivo> [--threads N] [--seed S]";
+
+    // Embaralhamentos por bloco (a unidade de trabalho e de reprodutibilidade)
+    private static final int BLOCK_SIZE = 1024;
+
+    // Blocos prontos aguardando gravação, por thread de trabalho: limita a memória quando um bloco
+    // atrasa e os seguintes já estão prontos
+    private static final int BLOCKS_IN_FLIGHT_PER_THREAD = 4;
+
+    // Marca de fim da fila de escrita
+    private static final Block END = new Block(-1, "");
+
+    // Intervalo entre as mensagens de progresso, em milissegundos
+    private static final long PROGRESS_INTERVAL = 10_000;
+
+    // Primeiro erro da geração ou da escrita (as threads de trabalho não podem lançar exceções para
+    // quem as iniciou): interrompe as demais threads e é relançado por run
+    private static final AtomicReference<RuntimeException> FAILURE = new AtomicReference<>();
+
+    private ScrambleBatch() {
+    }
+
+    /**
+     * Ponto de entrada do gerador em lote.
+     *
+     * @param args quantidade, arquivo de saída e opções {@code --threads} e {@code --seed}
+     */
+    public static void main(String[] args) {
+        int count;
+        Path output;
+        int threads = Runtime.getRuntime().availableProcessors();
+        SplittableRandom seed = new SplittableRandom();
+        try {
+            if (args.length < 2) {
+                throw new IllegalArgumentException("Argumentos insuficientes");
+            }
+            count = Integer.parseInt(args[0]);
+            output = Path.of(args[1]);
+            for (int i = 2; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = new SplittableRandom(Long.parseLong(args[++i]));
+                    default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+            if (count < 0 || threads < 1) {
+                throw new IllegalArgumentException("Quantidade ou número de threads inválido");
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        try {
+            run(count, output, threads, seed);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro ao gravar os embaralhamentos: " + e.getMessage());
+            System.exit(1);
+        } catch (RuntimeException e) {
+            System.err.println("Erro ao gerar os embaralhamentos: " + e);
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Geração interrompida");
+            System.exit(1);
+        }
+    }
+
+    private static void run(int count, Path output, int threads, SplittableRandom seed)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        TwoPhaseSolver.initialize();
+        System.out.printf("Tabelas carregadas em %.1f s%n", (System.nanoTime() - start) / 1e9);
+
+        long[] latencies = new long[count];
+        // Cada bloco recebe um gerador independente, derivado da semente em ordem fixa, de modo que o
+        // conteúdo de cada linha não depende de qual thread a gerou
+        SplittableRandom[] randoms = new SplittableRandom[(count + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        for (int b = 0; b < randoms.length; b++) {
+            randoms[b] = seed.split();
+        }
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger(); // Embaralhamentos já gerados, para o progresso
+        Semaphore inFlight = new Semaphore(threads * BLOCKS_IN_FLIGHT_PER_THREAD);
+        BlockingQueue<Block> queue = new LinkedBlockingQueue<>();
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> generate(randoms, count, next, done, inFlight, latencies, queue),
+                    "scramble-" + t);
+        }
+
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            Thread writerThread = new Thread(() -> write(queue, inFlight, writer, threads), "scramble-writer");
+            long generationStart = System.nanoTime();
+            writerThread.start();
+            for (Thread worker : workers) {
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                while (worker.isAlive()) {
+                    worker.join(PROGRESS_INTERVAL);
+                    if (worker.isAlive()) {
+                        int generated = done.get();
+                        double seconds = (System.nanoTime() - generationStart) / 1e9;
+                        System.out.printf("%d/%d embaralhamentos (%.0f/s)%n", generated, count, generated / seconds);
+                    }
+                }
+            }
+            writerThread.join();
+            long elapsed = System.nanoTime() - generationStart;
+            if (FAILURE.get() != null) {
+                throw FAILURE.get();
+            }
+            report(count, threads, elapsed, latencies);
+        }
+    }
+
+    private static void generate(SplittableRandom[] randoms, int count, AtomicInteger next, AtomicInteger done,
+            Semaphore inFlight, long[] latencies, BlockingQueue<Block> queue) {
+        boolean holding = false; // Se esta thread tem uma vaga de bloco ainda não entregue
+        try {
+            StringBuilder text = new StringBuilder(BLOCK_SIZE * 64);
+            while (true) {
+                // A vaga é obtida antes do bloco: o menor bloco pendente sempre já tem a sua, e a
+                // thread de escrita nunca espera por um bloco que não pode ser gerado
+                inFlight.acquire();
+                holding = true;
+                int block = next.getAndIncrement();
+                if (block >= randoms.length || FAILURE.get() != null) {
+                    break;
+                }
+                Scrambler scrambler = new Scrambler(randoms[block]);
+                randoms[block] = null;
+                text.setLength(0);
+                int end = (int) Math.min(count, (block + 1L) * BLOCK_SIZE);
+                for (int index = block * BLOCK_SIZE; index < end; index++) {
+                    long start = System.nanoTime();
+                    List<Move> scramble = scrambler.next();
+                    latencies[index] = System.nanoTime() - start;
+                    for (int i = 0; i < scramble.size(); i++) {
+                        if (i > 0) {
+                            text.append(' ');
+                        }
+                        text.append(scramble.get(i).notation());
+                    }
+                    text.append('\n');
+                }
+                queue.put(new Block(block, text.toString()));
+                holding = false; // A vaga passa a ser da thread de escrita, que a devolve ao gravar
+                done.addAndGet(end - block * BLOCK_SIZE);
+            }
+        } catch (RuntimeException e) {
+            // O bloco com erro nunca chegará à thread de escrita: registra a falha para que ela e as
+            // demais threads parem em vez de esperar por ele
+            FAILURE.compareAndSet(null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Devolve a vaga retida; depois de uma falha, cada thread que acorda com ela a repassa, até
+            // que todas as que esperavam em acquire tenham terminado
+            if (holding) {
+                inFlight.release();
+            }
+            // Sempre avisa a thread de escrita, mesmo se a geração falhar
+            try {
+                queue.put(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void write(BlockingQueue<Block> queue, Semaphore inFlight, Writer writer, int producers) {
+        try {
+            // Blocos que chegaram antes dos anteriores, aguardando a sua vez
+            Map<Integer, String> pending = new HashMap<>();
+            int nextBlock = 0;
+            int finished = 0;
+            while (finished < producers) {
+                Block block = queue.take();
+                if (block == END) {
+                    finished++;
+                    continue;
+                }
+                pending.put(block.index(), block.text());
+                for (String text = pending.remove(nextBlock); text != null; text = pending.remove(nextBlock)) {
+                    // Depois de um erro, continua apenas consumindo a fila para não bloquear as threads
+                    if (FAILURE.get() == null) {
+                        try {
+                            writer.write(text);
+                        } catch (IOException e) {
+                            FAILURE.compareAndSet(null, new UncheckedIOException(e));
+                        }
+                    }
+                    nextBlock++;
+                    inFlight.release();
+                }
+            }
+            if (FAILURE.get() == null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            FAILURE.compareAndSet(null, new UncheckedIOException(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void report(int count, int threads, long elapsedNanos, long[] latencies) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%d embaralhamentos em %.2f s com %d threads (%.1f embaralhamentos/s)%n",
+                count, seconds, threads, count / seconds);
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("Latência (ms): p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, máx %.2f%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                percentile(latencies, 99.9), latencies[latencies.length - 1] / 1e6);
+    }
+
+    // Embaralhamentos de um bloco, já no formato do arquivo
+    private record Block(int index, String text) {
+    }
+
+    // Percentil (método do posto mais próximo) de latências ordenadas, em milissegundos
+    private static double percentile(long[] sorted, double percent) {
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
@@ -0,0 +1,265 @@
+package com.univasf.magiccube3d.log;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Registro de mensagens com níveis, escrito de forma assíncrona.
+ * <p>
+ * As mensagens habilitadas são colocadas em um buffer circular de tamanho fixo, sem travas, e uma
+ * thread de escrita (daemon) as grava no console: {@link Level#DEBUG} e {@link Level#INFO} na saída
+ * padrão, {@link Level#WARN} e {@link Level#ERROR} na saída de erro. Quem registra nunca espera por
+ * E/S; se o buffer estiver cheio, mensagens de depuração e informação são descartadas (e contadas),
+ * enquanto avisos e erros são escritos diretamente.
+ * </p>
+ * <p>
+ * O nível padrão é {@link Level#INFO} e pode ser alterado pela propriedade de sistema
+ * {@value #LEVEL_PROPERTY} ou por {@link #setLevel}. Mensagens montadas com concatenação em trechos
+ * críticos devem ser protegidas por {@link #isEnabled}, para que nada seja alocado quando o nível
+ * estiver desabilitado.
+ * </p>
+ */
+public final class Log {
+
+    /** Níveis de registro, do mais detalhado ao mais grave. */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    /** Propriedade de sistema com o nível inicial (DEBUG, INFO, WARN, ERROR ou OFF). */
+    public static final String LEVEL_PROPERTY = "magiccube3d.log.level";
+
+    private static final int CAPACITY = 8192; // Potência de 2
+
+    private static volatile Level level = initialLevel();
+
+    private Log() {
+    }
+
+    private static Level initialLevel() {
+        String configured = System.getProperty(LEVEL_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            try {
+                return Level.valueOf(configured.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Nível de log inválido: " + configured);
+            }
+        }
+        return Level.INFO;
+    }
+
+    /**
+     * Altera o nível mínimo das mensagens registradas.
+     *
+     * @param newLevel novo nível
+     */
+    public static void setLevel(Level newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("Nível não pode ser nulo");
+        }
+        level = newLevel;
+    }
+
+    /**
+     * Retorna o nível mínimo atual.
+     *
+     * @return nível atual
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Indica se mensagens do nível informado são registradas.
+     *
+     * @param messageLevel nível da mensagem
+     * @return {@code true} se o nível está habilitado
+     */
+    public static boolean isEnabled(Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0 && messageLevel != Level.OFF;
+    }
+
+    /** @param message mensagem de depuração */
+    public static void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    /** @param message mensagem informativa */
+    public static void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    /** @param message aviso */
+    public static void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    /** @param message mensagem de erro */
+    public static void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    /**
+     * Registra um erro com o rastreamento da exceção.
+     *
+     * @param message mensagem de erro
+     * @param error   exceção associada
+     */
+    public static void error(String message, Throwable error) {
+        log(Level.ERROR, message, error);
+    }
+
+    private static void log(Level messageLevel, String message, Throwable error) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        Entry entry = new Entry(messageLevel, message, error);
+        if (Writer.BUFFER.offer(entry)) {
+            if (Writer.idle) {
+                LockSupport.unpark(Writer.THREAD); // A thread de escrita está parada esperando mensagens
+            }
+        } else {
+            if (messageLevel.compareTo(Level.WARN) >= 0) {
+                entry.writeTo(System.err); // Avisos e erros não são descartados
+            } else {
+                Writer.DROPPED.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Aguarda a thread de escrita gravar as mensagens já registradas (por exemplo, antes de encerrar
+     * a aplicação).
+     */
+    public static void flush() {
+        Writer.flush();
+    }
+
+    private record Entry(Level level, String message, Throwable error) {
+
+        void writeTo(PrintStream stream) {
+            stream.println(message);
+            if (error != null) {
+                error.printStackTrace(stream);
+            }
+        }
+    }
+
+    // Fila circular limitada para vários produtores e um único consumidor (algoritmo de Vyukov):
+    // cada posição tem um número de sequência que indica se ela está livre para a volta atual do
+    // produtor ou pronta para o consumidor, de modo que produtores só disputam o contador "tail".
+    // A publicação é uma escrita volátil (e não apenas "release") para que, junto com a flag "idle"
+    // da thread de escrita, o produtor nunca deixe de acordá-la.
+    private static final class RingBuffer {
+
+        private final Entry[] entries = new Entry[CAPACITY];
+        private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+        private final AtomicLong tail = new AtomicLong();
+        private long head; // Usado apenas pela thread de escrita
+
+        RingBuffer() {
+            for (int i = 0; i < CAPACITY; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(Entry entry) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) position & (CAPACITY - 1);
+                long difference = sequences.getAcquire(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        entries[index] = entry;
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    return false; // Cheio: a posição ainda não foi consumida na volta anterior
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return sequences.get((int) head & (CAPACITY - 1)) != head + 1;
+        }
+
+        Entry poll() {
+            int index = (int) head & (CAPACITY - 1);
+            if (sequences.getAcquire(index) != head + 1) {
+                return null;
+            }
+            Entry entry = entries[index];
+            entries[index] = null;
+            sequences.setRelease(index, head + CAPACITY);
+            head++;
+            return entry;
+        }
+    }
+
+    // Thread de escrita, iniciada na primeira mensagem registrada
+    private static final class Writer {
+
+        static final RingBuffer BUFFER = new RingBuffer();
+        static final AtomicLong DROPPED = new AtomicLong();
+        private static final AtomicLong WRITTEN = new AtomicLong();
+        static final Thread THREAD = start();
+
+        // Indica que a thread de escrita vai parar (ou está parada) sem prazo até ser acordada por
+        // um produtor: ela marca a flag, confere o buffer mais uma vez e só então para, e o produtor
+        // publica a mensagem e depois lê a flag
+        static volatile boolean idle;
+
+        private static Thread start() {
+            Thread thread = new Thread(Writer::run, "log-writer");
+            thread.setDaemon(true);
+            thread.start();
+            // Grava o que restar no buffer quando a JVM encerrar
+            Runtime.getRuntime().addShutdownHook(new Thread(Writer::flush, "log-flush"));
+            return thread;
+        }
+
+        private static void run() {
+            boolean written = false; // Há mensagens gravadas desde o último flush da saída padrão
+            while (true) {
+                Entry entry = BUFFER.poll();
+                if (entry == null) {
+                    long dropped = DROPPED.getAndSet(0);
+                    if (dropped > 0) {
+                        System.err.println(dropped + " mensagens de log descartadas (buffer cheio)");
+                    }
+                    if (written) {
+                        System.out.flush();
+                        written = false;
+                    }
+                    idle = true;
+                    if (BUFFER.isEmpty()) {
+                        LockSupport.park(); // Sem prazo: a thread ociosa não acorda periodicamente
+                    }
+                    idle = false;
+                    continue;
+                }
+                entry.writeTo(entry.level().compareTo(Level.WARN) >= 0 ? System.err : System.out);
+                WRITTEN.incrementAndGet();
+                written = true;
+            }
+        }
+
+        // Espera (com limite) até a thread de escrita consumir as mensagens já publicadas
+        static void flush() {
+            long target = BUFFER.tail.get();
+            long deadline = System.nanoTime() + 1_000_000_000L;
+            // Mensagens descartadas nunca entram no buffer, portanto "tail" conta apenas as publicadas
+            while (WRITTEN.get() < target && System.nanoTime() < deadline && THREAD.isAlive()) {
+                LockSupport.unpark(THREAD);
+                LockSupport.parkNanos(100_000);
+            }
+            System.out.flush();
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.univasf.magiccube3d.model;
+
+import com.univasf.magiccube3d.log.Log;
+
+import java.util.Arrays;
+
+// Representa o estado de um Cubo Mágico 3x3 e implementa a lógica de rotação das faces e camadas.
+//
+// O estado é mantido em um único vetor de 54 bytes, onde cada posição guarda o índice da cor
+// (o ordinal da FaceType de origem). O modelo não depende do JavaFX: a cor exibida de cada índice
+// é definida pela paleta da visualização (view.ColorPalette). O índice de um facelet é face.ordinal() * 9 + linha * 3 + coluna.
+// Os movimentos são aplicados através das tabelas de permutação de Move, sem alocar objetos.
+//
+// O cubo mantém a quantidade de facelets fora da cor de origem e o hash de Zobrist do estado,
+// atualizados a cada movimento apenas nas posições que o movimento altera; assim isSolved e
+// getZobristHash não precisam percorrer o estado.
+//
+// Ouvintes registrados (CubeChangeListener) recebem, a cada operação, apenas as posições cuja cor
+// mudou e as novas cores, para que as visualizações atualizem só o que o movimento alterou.
+//
+// As rotações do cubo inteiro (x, y, z) não movem os facelets: elas só trocam o referencial
+// (uma das 24 rotações de Symmetry) pelo qual o vetor é lido. Os movimentos seguintes são
+// traduzidos para o referencial do vetor antes de serem aplicados, e o vetor só é reescrito na
+// orientação observada quando é acessado como um todo (visões Face/Facelet, permutações compostas).
+public final class Cube {
+
+    // Quantidade total de facelets do cubo (6 faces x 9 facelets)
+    public static final int FACELET_COUNT = 54;
+
+    // Quantidade de cores (uma por face, indexadas pelo ordinal da FaceType)
+    public static final int COLOR_COUNT = 6;
+
+    private static final FaceType[] FACE_TYPES = FaceType.values();
+
+    // Cor de origem de cada facelet (a cor do estado resolvido)
+    private static final byte[] HOME_COLORS = new byte[FACELET_COUNT];
+
+    static {
+        for (int i = 0; i < FACELET_COUNT; i++) {
+            HOME_COLORS[i] = (byte) (i / 9);
+        }
+    }
+
+    private static final long SOLVED_HASH = Zobrist.hash(HOME_COLORS);
+
+    // Movimentos equivalentes a rotateFace(face, true), indexados pelo ordinal da FaceType.
+    // As faces LEFT e RIGHT usam o sentido invertido em relação à notação Singmaster.
+    private static final Move[] FACE_MOVES = { Move.U, Move.D, Move.F, Move.B, Move.L_PRIME, Move.R_PRIME };
+
+    // Vetor de estado com o índice de cor de cada facelet
+    private final byte[] facelets = new byte[FACELET_COUNT];
+
+    // Vetor auxiliar usado na aplicação das permutações
+    private final byte[] scratch = new byte[FACELET_COUNT];
+
+    // Visões das faces sobre o vetor de estado, indexadas pelo ordinal da FaceType
+    private final Face[] faces = new Face[FACE_TYPES.length];
+
+    // Quantidade de facelets com cor diferente da de origem
+    private int misplaced;
+
+    // Hash de Zobrist do estado atual
+    private long hash;
+
+    // Indica que misplaced e hash precisam ser recalculados (depois de alterações feitas pelas
+    // visões Face/Facelet ou de uma carga de estado)
+    private boolean stale;
+
+    // Referencial atual: o facelet observado na posição i está em facelets[frameFacelets[i]], e o
+    // facelet guardado na posição i é observado em frameInverse[i]. O referencial 0 é a identidade.
+    private int frame;
+    private int[] frameFacelets = Symmetry.facelets(0);
+    private int[] frameInverse = frameFacelets;
+
+    // Ouvintes das alterações (cópia na escrita; sem ouvintes, nenhum aviso é montado) e vetores
+    // reaproveitados para as posições alteradas e suas novas cores
+    private static final CubeChangeListener[] NO_LISTENERS = {};
+    private CubeChangeListener[] listeners = NO_LISTENERS;
+    private final int[] changedIndices = new int[FACELET_COUNT];
+    private final int[] changedColors = new int[FACELET_COUNT];
+
+    // Retorna uma face específica do cubo
+    public Face getFace(FaceType type) {
+        normalizeFrame();
+        return faces[type.ordinal()];
+    }
+
+    // Constutor que chama o metodo initializeSolvedState() para inicializar o cubo
+    // no estado resolvido
+    public Cube() {
+        for (FaceType type : FACE_TYPES) {
+            faces[type.ordinal()] = new Face(type, facelets, type.ordinal() * Face.SIZE * Face.SIZE, this);
+        }
+        initializeSolvedState();
+    }
+
+    // Inicializa o cubo no estado resolvido (cada face com uma cor uniforme)
+    public void initializeSolvedState() {
+        System.arraycopy(HOME_COLORS, 0, facelets, 0, FACELET_COUNT);
+        setFrame(0);
+        misplaced = 0;
+        hash = SOLVED_HASH;
+        stale = false;
+        notifyAllFacelets();
+        Log.debug("Cubo inicializado no estado resolvido.");
+    }
+
+    // Método que verifica se o cubo está resolvido. Com os centros na posição original, basta
+    // consultar a contagem de facelets fora do lugar; só quando camadas centrais deslocaram os
+    // centros cada face é comparada com o seu centro.
+    public boolean isSolved() {
+        int count = getMisplacedFacelets();
+        if (count == 0) {
+            return true;
+        }
+        if (centersAtHome()) {
+            return false;
+        }
+        // Percorre todas as faces do cubo comparando cada facelet com o centro da face (o referencial
+        // não importa: uma rotação do cubo inteiro leva faces uniformes em faces uniformes)
+        for (int face = 0; face < FACELET_COUNT; face += 9) {
+            byte baseColor = facelets[face + 4]; // Cor do centro é a cor base fixa
+            for (int i = face; i < face + 9; i++) {
+                if (facelets[i] != baseColor) {
+                    return false; // Cubo não está resolvido
+                }
+            }
+        }
+        return true; // Todas as faces têm cores uniformes
+    }
+
+    // Retorna quantos facelets estão com cor diferente da de origem (0 a 54). É uma medida de
+    // progresso em relação à orientação original dos centros.
+    public int getMisplacedFacelets() {
+        refresh();
+        return misplaced;
+    }
+
+    // Retorna o hash de Zobrist (64 bits) do estado atual. Estados iguais têm o mesmo hash em
+    // qualquer execução; estados diferentes colidem com probabilidade desprezível.
+    public long getZobristHash() {
+        refresh();
+        return hash;
+    }
+
+    // Recalcula a contagem e o hash depois de alterações feitas por fora dos movimentos
+    private void refresh() {
+        if (stale) {
+            int count = 0;
+            copyStateTo(scratch); // Estado observado
+            for (int i = 0; i < FACELET_COUNT; i++) {
+                if (scratch[i] != HOME_COLORS[i]) {
+                    count++;
+                }
+            }
+            misplaced = count;
+            hash = Zobrist.hash(scratch);
+            stale = false;
+        }
+    }
+
+    // Indica se os seis centros estão na posição original
+    private boolean centersAtHome() {
+        for (int center = 4; center < FACELET_COUNT; center += 9) {
+            if (facelets[frameFacelets[center]] != HOME_COLORS[center]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Rotaciona uma face do cubo no sentido horário ou anti-horário
+    public void rotateFace(String face, boolean clockwise) {
+        FaceType faceType = parseFace(face);
+
+        // Aplica a tabela de permutação da face (e das arestas adjacentes) ao vetor de estado
+        Move move = FACE_MOVES[faceType.ordinal()];
+        apply(clockwise ? move : move.inverse());
+
+        // Registrado só em DEBUG: no nível padrão a rotação não monta nem escreve mensagem alguma
+        if (Log.isEnabled(Log.Level.DEBUG)) {
+            Log.debug("Rotacionando face " + faceType + direction(clockwise));
+        }
+    }
+
+    // Rotaciona a camada central do cubo em torno do eixo X ou Y
+    public void rotateCenter(String axis, boolean clockwise) {
+        if ("X".equals(axis)) {
+            apply(clockwise ? Move.E_PRIME : Move.E);
+            logCenter("no eixo X", clockwise);
+        } else if ("M".equals(axis)) {
+            apply(clockwise ? Move.M : Move.M_PRIME);
+            logCenter("no eixo Y", clockwise);
+        } else if ("S".equals(axis)) {
+            apply(clockwise ? Move.S : Move.S_PRIME);
+            logCenter("S", clockwise);
+        } else {
+            // Eixos desconhecidos eram ignorados em silêncio (o embaralhamento pedia "Y")
+            throw new IllegalArgumentException("Eixo de camada central inválido: " + axis);
+        }
+    }
+
+    private static void logCenter(String layer, boolean clockwise) {
+        if (Log.isEnabled(Log.Level.DEBUG)) {
+            Log.debug("Rotacionando camada central " + layer + direction(clockwise));
+        }
+    }
+
+    private static String direction(boolean clockwise) {
+        return clockwise ? " no sentido horário" : " no sentido anti-horário";
+    }
+
+    // Converte o nome da face para FaceType sem alocar uma nova String
+    private static FaceType parseFace(String face) {
+        if (face != null) {
+            for (FaceType type : FACE_TYPES) {
+                if (type.name().equalsIgnoreCase(face)) {
+                    return type;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Face inválida: " + face);
+    }
+
+    // Aplica um movimento ao cubo (um único "gather" sobre o vetor de estado). As rotações do cubo
+    // inteiro só trocam o referencial, e os demais movimentos são traduzidos para o referencial do
+    // vetor por uma consulta à tabela de conjugação.
+    public void apply(Move move) {
+        if (move.isCubeRotation()) {
+            int[] previous = frameFacelets;
+            setFrame(Symmetry.multiply(frame, Symmetry.of(move)));
+            stale = true; // A contagem e o hash se referem ao estado observado
+            if (listeners.length != 0) {
+                // O vetor não muda, mas a cor observada em cada posição sim
+                int count = 0;
+                for (int i = 0; i < FACELET_COUNT; i++) {
+                    byte color = facelets[frameFacelets[i]];
+                    if (color != facelets[previous[i]]) {
+                        changedIndices[count] = i;
+                        changedColors[count++] = color;
+                    }
+                }
+                fireChanged(count);
+            }
+            return;
+        }
+        applyStored(frame == 0 ? move.permutation() : Symmetry.conjugate(move, Symmetry.inverse(frame)).permutation());
+    }
+
+    // Aplica uma permutação composta (ex: uma sequência de movimentos já fundida) em uma só passada.
+    // Apenas as posições alteradas são lidas e escritas, e a contagem de facelets fora do lugar e o
+    // hash são atualizados com a diferença nessas posições.
+    public void apply(Permutation permutation) {
+        normalizeFrame();
+        applyStored(permutation);
+    }
+
+    // Aplica uma permutação expressa no referencial do vetor de estado
+    private void applyStored(Permutation permutation) {
+        int[] moved = permutation.moved();
+        for (int i : moved) {
+            scratch[i] = facelets[permutation.get(i)];
+        }
+        int delta = 0;
+        long hashDelta = 0;
+        boolean notify = listeners.length != 0;
+        int count = 0;
+        for (int i : moved) {
+            int observed = frameInverse[i];
+            byte home = HOME_COLORS[observed];
+            byte before = facelets[i], after = scratch[i];
+            delta += (after != home ? 1 : 0) - (before != home ? 1 : 0);
+            hashDelta ^= Zobrist.key(observed, before) ^ Zobrist.key(observed, after);
+            facelets[i] = after;
+            if (notify && before != after) {
+                changedIndices[count] = observed;
+                changedColors[count++] = after;
+            }
+        }
+        misplaced += delta;
+        hash ^= hashDelta;
+        if (notify) {
+            fireChanged(count);
+        }
+    }
+
+    // Registra um ouvinte das alterações de estado
+    public void addChangeListener(CubeChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Ouvinte não pode ser nulo");
+        }
+        CubeChangeListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    // Remove um ouvinte registrado (nada acontece se ele não estiver registrado)
+    public void removeChangeListener(CubeChangeListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                CubeChangeListener[] updated = new CubeChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, updated.length - i);
+                listeners = updated.length == 0 ? NO_LISTENERS : updated;
+                return;
+            }
+        }
+    }
+
+    // Avisa os ouvintes das "count" posições registradas em changedIndices/changedColors
+    private void fireChanged(int count) {
+        if (count == 0) {
+            return;
+        }
+        for (CubeChangeListener listener : listeners) {
+            listener.faceletsChanged(this, changedIndices, changedColors, count);
+        }
+    }
+
+    // Avisa os ouvintes de todas as posições (estado carregado ou alterado por fora dos movimentos)
+    private void notifyAllFacelets() {
+        if (listeners.length != 0) {
+            for (int i = 0; i < FACELET_COUNT; i++) {
+                changedIndices[i] = i;
+                changedColors[i] = facelets[frameFacelets[i]];
+            }
+            fireChanged(FACELET_COUNT);
+        }
+    }
+
+    // Retorna o índice de cor (ordinal da FaceType de origem) do facelet na posição informada
+    public int getColorIndex(int index) {
+        return facelets[frameFacelets[index]];
+    }
+
+    // Retorna um cubo independente com o mesmo estado observado (sem os ouvintes), que pode ser lido
+    // em outra thread enquanto este continua sendo alterado
+    public Cube copy() {
+        byte[] state = new byte[FACELET_COUNT];
+        copyStateTo(state);
+        Cube copy = new Cube();
+        copy.loadState(state);
+        return copy;
+    }
+
+    // Copia o vetor de estado (índices de cor, na orientação observada) para o vetor informado
+    void copyStateTo(byte[] target) {
+        for (int i = 0; i < FACELET_COUNT; i++) {
+            target[i] = facelets[frameFacelets[i]];
+        }
+    }
+
+    // Substitui o vetor de estado pelo conteúdo do vetor informado
+    void loadState(byte[] source) {
+        System.arraycopy(source, 0, facelets, 0, FACELET_COUNT);
+        setFrame(0);
+        faceletsChanged();
+    }
+
+    // Reescreve o vetor na orientação observada e volta ao referencial identidade. A contagem e o
+    // hash não mudam, pois já se referem ao estado observado.
+    void normalizeFrame() {
+        if (frame != 0) {
+            copyStateTo(scratch);
+            System.arraycopy(scratch, 0, facelets, 0, FACELET_COUNT);
+            setFrame(0);
+        }
+    }
+
+    private void setFrame(int frame) {
+        this.frame = frame;
+        this.frameFacelets = Symmetry.facelets(frame);
+        this.frameInverse = Symmetry.facelets(Symmetry.inverse(frame));
+    }
+
+    // Chamado pelas visões Face/Facelet quando alteram o vetor de estado diretamente
+    void faceletsChanged() {
+        stale = true;
+        notifyAllFacelets();
+    }
+
+    // Chamado pela visão Facelet quando altera uma única posição (o vetor já está normalizado)
+    void faceletChanged(int index) {
+        stale = true;
+        if (listeners.length != 0) {
+            changedIndices[0] = index;
+            changedColors[0] = facelets[index];
+            fireChanged(1);
+        }
+    }
+
+    // Valida um índice de cor recebido de fora do modelo
+    static byte checkColor(int colorIndex) {
+        if (colorIndex < 0 || colorIndex >= COLOR_COUNT) {
+            throw new IllegalArgumentException("Cor inválida: " + colorIndex);
+        }
+        return (byte) colorIndex;
+    }
+}
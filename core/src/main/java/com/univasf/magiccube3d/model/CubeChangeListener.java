@@ -0,0 +1,16 @@
+package com.univasf.magiccube3d.model;
+
+// Ouvinte das alterações de estado de um Cube (visualização 3D, planificação 2D, estatísticas).
+//
+// O cubo avisa uma vez por operação: cada movimento, cada permutação composta (uma sequência
+// fundida chega como um único aviso) e cada carga ou reinício do estado. Só os facelets cuja cor
+// mudou são informados, com os índices na orientação observada (face.ordinal() * 9 + linha * 3 +
+// coluna), de modo que um giro de face entrega cerca de 20 posições em vez das 54.
+@FunctionalInterface
+public interface CubeChangeListener {
+
+    // Recebe as posições alteradas e as novas cores (índices de cor) em indices[0, count) e
+    // colors[0, count). Os vetores são reaproveitados pelo cubo entre avisos: o ouvinte deve
+    // copiá-los se precisar guardá-los e não deve alterar o cubo durante o aviso.
+    void faceletsChanged(Cube cube, int[] indices, int[] colors, int count);
+}
@@ -0,0 +1,53 @@
+package com.univasf.magiccube3d.model;
+
+// Estado do cubo reduzido a coordenadas inteiras (orientação dos cantos, orientação das arestas,
+// posição das arestas da camada E e permutação dos cantos). Os movimentos são aplicados através
+// das tabelas de MoveTables, sem nenhuma comparação de cores ou cópia de peças.
+public final class CubeCoordinates {
+
+    private int twist;
+    private int flip;
+    private int slice;
+    private int cornerPermutation;
+
+    // Cria as coordenadas do cubo resolvido
+    public CubeCoordinates() {
+        this(new CubieCube());
+    }
+
+    // Extrai as coordenadas de um cubo no nível das peças
+    public CubeCoordinates(CubieCube cube) {
+        twist = cube.getTwist();
+        flip = cube.getFlip();
+        slice = cube.getSlice();
+        cornerPermutation = cube.getCornerPermutation();
+    }
+
+    // Aplica uma rotação de face às coordenadas
+    public void apply(Move move) {
+        if (!move.isFaceTurn()) {
+            throw new IllegalArgumentException("Movimento não suportado nas coordenadas: " + move);
+        }
+        int m = move.ordinal();
+        twist = MoveTables.twistMove(twist, m);
+        flip = MoveTables.flipMove(flip, m);
+        slice = MoveTables.sliceMove(slice, m);
+        cornerPermutation = MoveTables.cornerPermutationMove(cornerPermutation, m);
+    }
+
+    public int getTwist() {
+        return twist;
+    }
+
+    public int getFlip() {
+        return flip;
+    }
+
+    public int getSlice() {
+        return slice;
+    }
+
+    public int getCornerPermutation() {
+        return cornerPermutation;
+    }
+}
@@ -0,0 +1,515 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Representação do cubo no nível das peças (cubies): 8 cantos e 12 arestas, cada um com
+// permutação e orientação. É a base das coordenadas usadas por solvers e ferramentas de análise.
+//
+// Convenções (as mesmas do algoritmo de Kociemba):
+// - cantos: URF, UFL, ULB, UBR, DFR, DLF, DBL, DRB; arestas: UR, UF, UL, UB, DR, DF, DL, DB, FR, FL, BL, BR;
+// - cp[i] / ep[i] indicam qual peça está na posição i;
+// - co[i] é quantas vezes o canto foi girado no sentido horário (0..2) e eo[i] indica aresta invertida (0..1).
+public final class CubieCube {
+
+    public static final int CORNER_COUNT = 8;
+    public static final int EDGE_COUNT = 12;
+
+    // Tamanho de cada coordenada
+    public static final int TWIST_COUNT = 2187; // 3^7 orientações de cantos
+    public static final int FLIP_COUNT = 2048; // 2^11 orientações de arestas
+    public static final int SLICE_COUNT = 495; // C(12, 4) posições das arestas da camada E
+    public static final int CORNER_PERMUTATION_COUNT = 40320; // 8! permutações de cantos
+    public static final int UD_EDGE_PERMUTATION_COUNT = 40320; // 8! permutações das arestas das camadas U e D
+    public static final int SLICE_PERMUTATION_COUNT = 24; // 4! permutações das arestas da camada E
+    public static final int EDGE_PERMUTATION_COUNT = 479001600; // 12! permutações de todas as arestas
+
+    // Deslocamento de cada face no vetor de facelets do Cube
+    private static final int U = 0, D = 9, F = 18, B = 27, L = 36, R = 45;
+
+    // Facelets de cada canto, em sentido horário começando pelo facelet U/D
+    static final int[][] CORNER_FACELETS = {
+            { U + 6, R + 0, F + 0 }, { U + 8, F + 2, L + 2 }, { U + 2, L + 0, B + 0 }, { U + 0, B + 2, R + 2 },
+            { D + 0, F + 6, R + 6 }, { D + 2, L + 8, F + 8 }, { D + 8, B + 6, L + 6 }, { D + 6, R + 8, B + 8 } };
+
+    // Facelets de cada aresta
+    static final int[][] EDGE_FACELETS = {
+            { U + 3, R + 1 }, { U + 7, F + 1 }, { U + 5, L + 1 }, { U + 1, B + 1 },
+            { D + 3, R + 7 }, { D + 1, F + 7 }, { D + 5, L + 7 }, { D + 7, B + 7 },
+            { F + 3, R + 3 }, { F + 5, L + 5 }, { B + 3, L + 3 }, { B + 5, R + 5 } };
+
+    // Primeira aresta da camada E (FR); as arestas FR, FL, BL e BR ocupam os índices 8..11
+    static final int FIRST_SLICE_EDGE = 8;
+
+    // As 24 rotações do cubo inteiro, usadas para alinhar estados com os centros fora do lugar
+    private static final List<int[]> ORIENTATIONS = FaceletGeometry.wholeCubeRotations();
+
+    // Cubos de cada rotação de face, indexados pelo ordinal de Move (gerados a partir das tabelas de facelets)
+    private static final CubieCube[] MOVE_CUBES = new CubieCube[Move.FACE_TURN_COUNT];
+
+    static {
+        Move[] moves = Move.values();
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        for (int m = 0; m < Move.FACE_TURN_COUNT; m++) {
+            Permutation permutation = moves[m].permutation();
+            for (int i = 0; i < state.length; i++) {
+                state[i] = (byte) (permutation.get(i) / 9);
+            }
+            MOVE_CUBES[m] = fromFacelets(state);
+        }
+    }
+
+    final byte[] cp = new byte[CORNER_COUNT];
+    final byte[] co = new byte[CORNER_COUNT];
+    final byte[] ep = new byte[EDGE_COUNT];
+    final byte[] eo = new byte[EDGE_COUNT];
+
+    // Cria um cubo resolvido
+    public CubieCube() {
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            cp[i] = (byte) i;
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            ep[i] = (byte) i;
+        }
+    }
+
+    // Cria uma cópia do cubo informado
+    public CubieCube(CubieCube other) {
+        copyFrom(other);
+    }
+
+    // Copia o estado de outro cubo para este
+    public void copyFrom(CubieCube other) {
+        System.arraycopy(other.cp, 0, cp, 0, CORNER_COUNT);
+        System.arraycopy(other.co, 0, co, 0, CORNER_COUNT);
+        System.arraycopy(other.ep, 0, ep, 0, EDGE_COUNT);
+        System.arraycopy(other.eo, 0, eo, 0, EDGE_COUNT);
+    }
+
+    // Sorteia um estado resolvível com distribuição uniforme: permutações e orientações são
+    // sorteadas de forma independente e, se as paridades de cantos e arestas forem diferentes,
+    // duas arestas são trocadas (uma bijeção entre estados ímpares e pares, que mantém a distribuição)
+    public static CubieCube random(RandomGenerator random) {
+        CubieCube cube = new CubieCube();
+        setPermutationIndex(cube.cp, CORNER_COUNT, random.nextInt(CORNER_PERMUTATION_COUNT));
+        cube.setTwist(random.nextInt(TWIST_COUNT));
+        setPermutationIndex(cube.ep, EDGE_COUNT, random.nextInt(EDGE_PERMUTATION_COUNT));
+        cube.setFlip(random.nextInt(FLIP_COUNT));
+        if (cube.cornerParity() != cube.edgeParity()) {
+            byte edge = cube.ep[EDGE_COUNT - 1];
+            cube.ep[EDGE_COUNT - 1] = cube.ep[EDGE_COUNT - 2];
+            cube.ep[EDGE_COUNT - 2] = edge;
+        }
+        return cube;
+    }
+
+    // Converte o estado de facelets de um Cube para a representação por peças
+    public static CubieCube fromCube(Cube cube) {
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        cube.copyStateTo(state);
+        return fromFacelets(state);
+    }
+
+    // Converte um vetor de índices de cor para a representação por peças. O estado é interpretado
+    // em relação aos centros: se eles não estiverem na posição original (camadas centrais giradas),
+    // o cubo inteiro é primeiro girado até que os centros voltem ao lugar.
+    static CubieCube fromFacelets(byte[] state) {
+        state = alignToCenters(state);
+
+        CubieCube cube = new CubieCube();
+        Arrays.fill(cube.cp, (byte) -1);
+        Arrays.fill(cube.ep, (byte) -1);
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            // Procura o facelet U/D do canto para determinar a orientação
+            int ori = 0;
+            while (ori < 3) {
+                int face = state[CORNER_FACELETS[i][ori]];
+                if (face == FaceType.UP.ordinal() || face == FaceType.DOWN.ordinal()) {
+                    break;
+                }
+                ori++;
+            }
+            if (ori == 3) {
+                throw new IllegalArgumentException("Canto inválido na posição " + i);
+            }
+            int col1 = state[CORNER_FACELETS[i][(ori + 1) % 3]];
+            int col2 = state[CORNER_FACELETS[i][(ori + 2) % 3]];
+            for (int j = 0; j < CORNER_COUNT; j++) {
+                if (col1 == CORNER_FACELETS[j][1] / 9 && col2 == CORNER_FACELETS[j][2] / 9) {
+                    cube.cp[i] = (byte) j;
+                    cube.co[i] = (byte) ori;
+                    break;
+                }
+            }
+            if (cube.cp[i] < 0) {
+                throw new IllegalArgumentException("Canto inválido na posição " + i);
+            }
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            int col0 = state[EDGE_FACELETS[i][0]];
+            int col1 = state[EDGE_FACELETS[i][1]];
+            for (int j = 0; j < EDGE_COUNT; j++) {
+                int home0 = EDGE_FACELETS[j][0] / 9, home1 = EDGE_FACELETS[j][1] / 9;
+                if (col0 == home0 && col1 == home1) {
+                    cube.ep[i] = (byte) j;
+                    cube.eo[i] = 0;
+                    break;
+                }
+                if (col0 == home1 && col1 == home0) {
+                    cube.ep[i] = (byte) j;
+                    cube.eo[i] = 1;
+                    break;
+                }
+            }
+            if (cube.ep[i] < 0) {
+                throw new IllegalArgumentException("Aresta inválida na posição " + i);
+            }
+        }
+        return cube;
+    }
+
+    // Retorna o estado girado (cubo inteiro) de forma que cada centro fique na sua face de origem
+    private static byte[] alignToCenters(byte[] state) {
+        for (int[] rotation : ORIENTATIONS) {
+            boolean aligned = true;
+            for (int face = 0; face < 6 && aligned; face++) {
+                aligned = state[rotation[face * 9 + 4]] == face;
+            }
+            if (aligned) {
+                byte[] rotated = new byte[Cube.FACELET_COUNT];
+                for (int i = 0; i < rotated.length; i++) {
+                    rotated[i] = state[rotation[i]];
+                }
+                return rotated;
+            }
+        }
+        throw new IllegalArgumentException("Centros inválidos");
+    }
+
+    // Converte para um Cube (facelets), com os centros na posição original
+    public Cube toCube() {
+        Cube cube = new Cube();
+        cube.loadState(toFacelets());
+        return cube;
+    }
+
+    // Gera o vetor de índices de cor correspondente a este estado
+    byte[] toFacelets() {
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        for (int face = 0; face < 6; face++) {
+            state[face * 9 + 4] = (byte) face;
+        }
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            for (int n = 0; n < 3; n++) {
+                state[CORNER_FACELETS[i][(n + co[i]) % 3]] = (byte) (CORNER_FACELETS[cp[i]][n] / 9);
+            }
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            for (int n = 0; n < 2; n++) {
+                state[EDGE_FACELETS[i][(n + eo[i]) % 2]] = (byte) (EDGE_FACELETS[ep[i]][n] / 9);
+            }
+        }
+        return state;
+    }
+
+    // Retorna o cubo correspondente a uma rotação de face (apenas U, R, F, D, L, B e variantes)
+    public static CubieCube of(Move move) {
+        return new CubieCube(moveCube(move));
+    }
+
+    private static CubieCube moveCube(Move move) {
+        if (!move.isFaceTurn()) {
+            throw new IllegalArgumentException("Movimento não suportado no nível das peças: " + move);
+        }
+        return MOVE_CUBES[move.ordinal()];
+    }
+
+    // Aplica uma rotação de face a este cubo
+    public void apply(Move move) {
+        multiply(moveCube(move));
+    }
+
+    // Multiplica este cubo por outro (this = this * other), isto é, aplica "other" depois deste
+    public void multiply(CubieCube other) {
+        byte[] newCp = new byte[CORNER_COUNT], newCo = new byte[CORNER_COUNT];
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            newCp[i] = cp[other.cp[i]];
+            newCo[i] = (byte) ((co[other.cp[i]] + other.co[i]) % 3);
+        }
+        byte[] newEp = new byte[EDGE_COUNT], newEo = new byte[EDGE_COUNT];
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            newEp[i] = ep[other.ep[i]];
+            newEo[i] = (byte) ((eo[other.ep[i]] + other.eo[i]) % 2);
+        }
+        System.arraycopy(newCp, 0, cp, 0, CORNER_COUNT);
+        System.arraycopy(newCo, 0, co, 0, CORNER_COUNT);
+        System.arraycopy(newEp, 0, ep, 0, EDGE_COUNT);
+        System.arraycopy(newEo, 0, eo, 0, EDGE_COUNT);
+    }
+
+    // Retorna o cubo inverso (aplicar este e depois o inverso resulta no cubo resolvido)
+    public CubieCube inverse() {
+        CubieCube inv = new CubieCube();
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            inv.cp[cp[i]] = (byte) i;
+        }
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            inv.co[i] = (byte) ((3 - co[inv.cp[i]]) % 3);
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            inv.ep[ep[i]] = (byte) i;
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            inv.eo[i] = eo[inv.ep[i]];
+        }
+        return inv;
+    }
+
+    // Indica se todas as peças estão na posição e orientação originais
+    public boolean isSolved() {
+        for (int i = 0; i < CORNER_COUNT; i++) {
+            if (cp[i] != i || co[i] != 0) {
+                return false;
+            }
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            if (ep[i] != i || eo[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Verifica se o estado pode ser obtido a partir do cubo resolvido (cada peça uma única vez,
+    // soma das orientações válida e paridades de cantos e arestas iguais)
+    public boolean isSolvable() {
+        if (!isPermutation(cp) || !isPermutation(ep)) {
+            return false;
+        }
+        int twist = 0, flip = 0;
+        for (byte o : co) {
+            twist += o;
+        }
+        for (byte o : eo) {
+            flip += o;
+        }
+        return twist % 3 == 0 && flip % 2 == 0 && cornerParity() == edgeParity();
+    }
+
+    private static boolean isPermutation(byte[] perm) {
+        boolean[] seen = new boolean[perm.length];
+        for (byte p : perm) {
+            if (p < 0 || p >= perm.length || seen[p]) {
+                return false;
+            }
+            seen[p] = true;
+        }
+        return true;
+    }
+
+    // Paridade da permutação dos cantos (0 = par, 1 = ímpar)
+    public int cornerParity() {
+        return parity(cp);
+    }
+
+    // Paridade da permutação das arestas (0 = par, 1 = ímpar)
+    public int edgeParity() {
+        return parity(ep);
+    }
+
+    private static int parity(byte[] perm) {
+        int inversions = 0;
+        for (int i = 0; i < perm.length; i++) {
+            for (int j = i + 1; j < perm.length; j++) {
+                if (perm[j] < perm[i]) {
+                    inversions++;
+                }
+            }
+        }
+        return inversions & 1;
+    }
+
+    // --- Coordenadas ---
+
+    // Orientação dos cantos (0..2186): os 7 primeiros cantos em base 3
+    public int getTwist() {
+        int twist = 0;
+        for (int i = 0; i < CORNER_COUNT - 1; i++) {
+            twist = 3 * twist + co[i];
+        }
+        return twist;
+    }
+
+    public void setTwist(int twist) {
+        int sum = 0;
+        for (int i = CORNER_COUNT - 2; i >= 0; i--) {
+            co[i] = (byte) (twist % 3);
+            sum += co[i];
+            twist /= 3;
+        }
+        co[CORNER_COUNT - 1] = (byte) ((3 - sum % 3) % 3);
+    }
+
+    // Orientação das arestas (0..2047): as 11 primeiras arestas em base 2
+    public int getFlip() {
+        int flip = 0;
+        for (int i = 0; i < EDGE_COUNT - 1; i++) {
+            flip = 2 * flip + eo[i];
+        }
+        return flip;
+    }
+
+    public void setFlip(int flip) {
+        int sum = 0;
+        for (int i = EDGE_COUNT - 2; i >= 0; i--) {
+            eo[i] = (byte) (flip & 1);
+            sum += eo[i];
+            flip >>= 1;
+        }
+        eo[EDGE_COUNT - 1] = (byte) (sum & 1);
+    }
+
+    // Posição (sem ordem) das 4 arestas da camada E (0..494); 0 quando estão nas posições originais
+    public int getSlice() {
+        int slice = 0, x = 0;
+        for (int j = EDGE_COUNT - 1; j >= 0; j--) {
+            if (ep[j] >= FIRST_SLICE_EDGE) {
+                slice += binomial(EDGE_COUNT - 1 - j, x + 1);
+                x++;
+            }
+        }
+        return slice;
+    }
+
+    public void setSlice(int slice) {
+        Arrays.fill(ep, (byte) -1);
+        int x = 3;
+        for (int j = 0; j < EDGE_COUNT; j++) {
+            int c = binomial(EDGE_COUNT - 1 - j, x + 1);
+            if (x >= 0 && slice - c >= 0) {
+                ep[j] = (byte) (FIRST_SLICE_EDGE + 3 - x);
+                slice -= c;
+                x--;
+            }
+        }
+        int other = 0;
+        for (int j = 0; j < EDGE_COUNT; j++) {
+            if (ep[j] < 0) {
+                ep[j] = (byte) other++;
+            }
+        }
+    }
+
+    // Permutação dos cantos (0..40319), como índice de Lehmer
+    public int getCornerPermutation() {
+        return permutationIndex(cp, CORNER_COUNT);
+    }
+
+    public void setCornerPermutation(int index) {
+        setPermutationIndex(cp, CORNER_COUNT, index);
+    }
+
+    // Permutação das 8 arestas das camadas U e D (0..40319). Só é significativa quando essas arestas
+    // estão nas posições 0..7, isto é, no subgrupo <U, D, R2, F2, L2, B2> usado pela fase 2 do solver.
+    public int getUdEdgePermutation() {
+        return permutationIndex(ep, FIRST_SLICE_EDGE);
+    }
+
+    // Define a permutação das arestas U/D, mantendo as arestas da camada E nas posições originais
+    public void setUdEdgePermutation(int index) {
+        setPermutationIndex(ep, FIRST_SLICE_EDGE, index);
+        for (int i = FIRST_SLICE_EDGE; i < EDGE_COUNT; i++) {
+            ep[i] = (byte) i;
+        }
+    }
+
+    // Permutação das 4 arestas da camada E entre si (0..23). Só é significativa quando elas estão
+    // nas posições 8..11.
+    public int getSlicePermutation() {
+        byte[] slice = new byte[EDGE_COUNT - FIRST_SLICE_EDGE];
+        for (int i = 0; i < slice.length; i++) {
+            slice[i] = (byte) (ep[FIRST_SLICE_EDGE + i] - FIRST_SLICE_EDGE);
+        }
+        return permutationIndex(slice, slice.length);
+    }
+
+    // Define a permutação das arestas da camada E, mantendo as arestas U/D nas posições originais
+    public void setSlicePermutation(int index) {
+        byte[] slice = new byte[EDGE_COUNT - FIRST_SLICE_EDGE];
+        setPermutationIndex(slice, slice.length, index);
+        for (int i = 0; i < FIRST_SLICE_EDGE; i++) {
+            ep[i] = (byte) i;
+        }
+        for (int i = 0; i < slice.length; i++) {
+            ep[FIRST_SLICE_EDGE + i] = (byte) (FIRST_SLICE_EDGE + slice[i]);
+        }
+    }
+
+    // Índice de Lehmer dos "length" primeiros valores do vetor (que devem ser uma permutação de 0..length-1)
+    static int permutationIndex(byte[] perm, int length) {
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int smaller = 0;
+            for (int j = i + 1; j < length; j++) {
+                if (perm[j] < perm[i]) {
+                    smaller++;
+                }
+            }
+            index = index * (length - i) + smaller;
+        }
+        return index;
+    }
+
+    static void setPermutationIndex(byte[] perm, int length, int index) {
+        int[] digits = new int[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = index % (length - i);
+            index /= length - i;
+        }
+        boolean[] used = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            int k = digits[i];
+            int value = 0;
+            while (used[value] || k > 0) {
+                if (!used[value]) {
+                    k--;
+                }
+                value++;
+            }
+            used[value] = true;
+            perm[i] = (byte) value;
+        }
+    }
+
+    // Coeficiente binomial C(n, k), com C(n, k) = 0 quando k > n
+    static int binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        int result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CubieCube other && Arrays.equals(cp, other.cp) && Arrays.equals(co, other.co)
+                && Arrays.equals(ep, other.ep) && Arrays.equals(eo, other.eo);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * Arrays.hashCode(cp) + Arrays.hashCode(co)) + Arrays.hashCode(ep))
+                + Arrays.hashCode(eo);
+    }
+
+    @Override
+    public String toString() {
+        return "CubieCube[cp=" + Arrays.toString(cp) + ", co=" + Arrays.toString(co) + ", ep="
+                + Arrays.toString(ep) + ", eo=" + Arrays.toString(eo) + "]";
+    }
+}
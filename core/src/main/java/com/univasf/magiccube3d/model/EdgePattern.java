@@ -0,0 +1,95 @@
+package com.univasf.magiccube3d.model;
+
+// Coordenada de um grupo de 6 arestas (base dos "pattern databases" de arestas do solver ótimo).
+//
+// Cada aresta é descrita por um "slot": posição * 2 + orientação (0..23). O índice do grupo combina
+// as posições das 6 arestas (arranjo de 12 tomados 6 a 6, 665280 valores) e as 6 orientações
+// (2^6 valores): índice = arranjo * 64 + orientações.
+public final class EdgePattern {
+
+    public static final int GROUP_SIZE = 6;
+    public static final int SLOT_COUNT = CubieCube.EDGE_COUNT * 2;
+    public static final int ARRANGEMENT_COUNT = 665280; // 12! / 6!
+    public static final int COUNT = ARRANGEMENT_COUNT << GROUP_SIZE;
+
+    // Slot de destino de cada slot após cada uma das 18 rotações de face (slot * 18 + movimento)
+    private static final byte[] SLOT_MOVE = new byte[SLOT_COUNT * MoveTables.MOVE_COUNT];
+
+    static {
+        Move[] moves = Move.values();
+        for (int m = 0; m < MoveTables.MOVE_COUNT; m++) {
+            CubieCube move = CubieCube.of(moves[m]);
+            // A aresta que estava na posição move.ep[q] passa para a posição q
+            for (int q = 0; q < CubieCube.EDGE_COUNT; q++) {
+                for (int orientation = 0; orientation < 2; orientation++) {
+                    int from = move.ep[q] * 2 + orientation;
+                    SLOT_MOVE[from * MoveTables.MOVE_COUNT + m] = (byte) (q * 2 + (orientation ^ move.eo[q]));
+                }
+            }
+        }
+    }
+
+    private EdgePattern() {
+    }
+
+    // Slot de uma aresta após o movimento
+    public static int slotMove(int slot, int move) {
+        return SLOT_MOVE[slot * MoveTables.MOVE_COUNT + move];
+    }
+
+    // Preenche "slots" (12 posições) com o slot de cada aresta do cubo
+    public static void slotsOf(CubieCube cube, int[] slots) {
+        for (int q = 0; q < CubieCube.EDGE_COUNT; q++) {
+            slots[cube.ep[q]] = q * 2 + cube.eo[q];
+        }
+    }
+
+    // Índice do grupo formado pelas arestas slots[from] .. slots[from + 5]
+    public static int encode(int[] slots, int from) {
+        int arrangement = 0, orientations = 0, used = 0;
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            int slot = slots[from + i];
+            int position = slot >> 1;
+            // Posição relativa entre as ainda livres
+            int rank = position - Integer.bitCount(used & ((1 << position) - 1));
+            used |= 1 << position;
+            arrangement = arrangement * (CubieCube.EDGE_COUNT - i) + rank;
+            orientations = (orientations << 1) | (slot & 1);
+        }
+        return (arrangement << GROUP_SIZE) | orientations;
+    }
+
+    // Operação inversa de encode: preenche slots[from] .. slots[from + 5]
+    public static void decode(int index, int[] slots, int from) {
+        int orientations = index & ((1 << GROUP_SIZE) - 1);
+        int arrangement = index >>> GROUP_SIZE;
+        int[] ranks = new int[GROUP_SIZE];
+        for (int i = GROUP_SIZE - 1; i >= 0; i--) {
+            int base = CubieCube.EDGE_COUNT - i;
+            ranks[i] = arrangement % base;
+            arrangement /= base;
+        }
+        int used = 0;
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            // Procura a rank-ésima posição livre
+            int position = -1;
+            for (int rank = ranks[i]; rank >= 0; rank--) {
+                do {
+                    position++;
+                } while ((used & (1 << position)) != 0);
+            }
+            used |= 1 << position;
+            int orientation = (orientations >> (GROUP_SIZE - 1 - i)) & 1;
+            slots[from + i] = position * 2 + orientation;
+        }
+    }
+
+    // Índice do grupo que começa na aresta "first" quando o cubo está resolvido
+    public static int solvedIndex(int first) {
+        int[] slots = new int[CubieCube.EDGE_COUNT];
+        for (int edge = 0; edge < CubieCube.EDGE_COUNT; edge++) {
+            slots[edge] = edge * 2;
+        }
+        return encode(slots, first);
+    }
+}
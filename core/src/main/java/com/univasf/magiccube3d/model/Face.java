@@ -0,0 +1,167 @@
+package com.univasf.magiccube3d.model;
+
+// Classe que representa uma face do cubo mágico (3x3).
+// A face é uma visão sobre um vetor de índices de cor: dentro de um Cube ela aponta para o vetor
+// de estado do cubo, e quando criada isoladamente mantém um vetor próprio de 9 posições.
+public class Face {
+    public static final int SIZE = 3; // Tamanho padrão da face (3x3)
+
+    // Ciclos de rotação horária da própria matriz da face.
+    // Em cada ciclo { a, b, c, d }, a posição a recebe o valor de b, b recebe c, c recebe d e d recebe a.
+    private static final int[][] CLOCKWISE_CYCLES = { { 0, 6, 8, 2 }, { 1, 3, 7, 5 } };
+
+    private final byte[] data; // Vetor de índices de cor que contém esta face
+    private final int offset; // Posição do primeiro facelet da face no vetor
+    private final Facelet[] facelets; // Visões dos facelets da face, criadas uma única vez
+    private final int[][] rotationCycles; // Ciclos de rotação já deslocados para a posição da face
+    private final FaceType faceType; // Tipo da face (ex: UP, FRONT, etc.)
+    private final Cube owner; // Cubo dono do vetor (null para faces isoladas)
+
+    // Retorna o facelet na posição especificada(linha e coluna de parâmetro)
+    public Facelet getFacelet(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE)
+            // Validação dos índices fornecidos (verifica se estão dentro dos limites da matriz) e Retorna o facelet correspondente à posição especificada.
+            throw new IllegalArgumentException("Indice invalido: " + row + " " + col + "");
+        return facelets[row * SIZE + col];
+    }
+
+    // Define o facelet na posição especificada (copia a cor do facelet informado)
+    public void setFacelet(int row, int col, Facelet facelet) {
+
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            throw new IllegalArgumentException("Indice invalido");
+        }
+        if (facelet == null) {
+            throw new IllegalArgumentException("facelet não pode ser Null");
+        }
+
+        byte color = (byte) facelet.getColorIndex();
+        sync();
+        data[offset + row * SIZE + col] = color;
+        notifyOwner();
+    }
+
+    // Retorna o tipo da face
+    public FaceType getFaceType() {
+        return faceType;
+    }
+
+    // Construtor: inicializa a face com todos os facelets da mesma cor
+    public Face(FaceType faceType, int initialColorIndex) {
+        //Tratamento de exceção caso algum dos parametros seja nulo
+        if (faceType == null) throw new IllegalArgumentException("faceType não pode ser Null");
+
+        // Define o tipo da face e cria um vetor próprio com o tamanho padrão SIZE x SIZE.
+        this.faceType = faceType;
+        this.data = new byte[SIZE * SIZE];
+        this.offset = 0;
+        this.owner = null;
+        this.facelets = createFacelets();
+        this.rotationCycles = createRotationCycles();
+
+        // Preenche todos os facelets com a cor inicial fornecida.
+        java.util.Arrays.fill(data, Cube.checkColor(initialColorIndex));
+    }
+
+    // Construtor usado pelo Cube: cria uma visão sobre o vetor de estado do cubo
+    Face(FaceType faceType, byte[] data, int offset, Cube owner) {
+        this.faceType = faceType;
+        this.data = data;
+        this.offset = offset;
+        this.owner = owner;
+        this.facelets = createFacelets();
+        this.rotationCycles = createRotationCycles();
+    }
+
+    // Cria as visões dos 9 facelets da face
+    private Facelet[] createFacelets() {
+        Facelet[] views = new Facelet[SIZE * SIZE];
+        for (int i = 0; i < views.length; i++) {
+            views[i] = new Facelet(data, offset + i, owner);
+        }
+        return views;
+    }
+
+    // Desloca os ciclos de rotação da matriz para a posição da face no vetor
+    private int[][] createRotationCycles() {
+        int[][] cycles = new int[CLOCKWISE_CYCLES.length][];
+        for (int i = 0; i < cycles.length; i++) {
+            cycles[i] = new int[CLOCKWISE_CYCLES[i].length];
+            for (int j = 0; j < cycles[i].length; j++) {
+                cycles[i][j] = offset + CLOCKWISE_CYCLES[i][j];
+            }
+        }
+        return cycles;
+    }
+
+    // Rotaciona a face 90° no sentido horário
+    public void rotateClockwise() {
+        rotate(true);
+    }
+
+    // Rotaciona a face 90° no sentido anti-horário
+    public void rotateCounterClockwise() {
+        rotate(false);
+    }
+
+    // Permuta os facelets da face no próprio vetor, mantendo o centro fixo
+    private void rotate(boolean clockwise) {
+        sync();
+        for (int[] c : rotationCycles) {
+            byte tmp;
+            if (clockwise) {
+                tmp = data[c[0]];
+                data[c[0]] = data[c[1]];
+                data[c[1]] = data[c[2]];
+                data[c[2]] = data[c[3]];
+                data[c[3]] = tmp;
+            } else {
+                tmp = data[c[3]];
+                data[c[3]] = data[c[2]];
+                data[c[2]] = data[c[1]];
+                data[c[1]] = data[c[0]];
+                data[c[0]] = tmp;
+            }
+        }
+        notifyOwner();
+    }
+
+    // Garante que o vetor do cubo dono está na orientação observada (após rotações x, y, z)
+    private void sync() {
+        if (owner != null) {
+            owner.normalizeFrame();
+        }
+    }
+
+    // Avisa o cubo dono do vetor de que o estado foi alterado por fora dos movimentos
+    private void notifyOwner() {
+        if (owner != null) {
+            owner.faceletsChanged();
+        }
+    }
+
+    // Imprime a face no terminal usando letras para representar as cores
+    public void printFace() {
+        sync();
+        System.out.println("Face: " + faceType);
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                System.out.print(getColorInitial(data[offset + i * SIZE + j]) + " ");
+            }
+            System.out.println();
+        }
+    }
+
+    // Retorna a letra correspondente ao índice de cor do facelet
+    private String getColorInitial(byte colorIndex) {
+        return switch (colorIndex) {
+            case 0 -> "Y"; // Amarelo
+            case 1 -> "W"; // Branco
+            case 2 -> "R"; // Vermelho
+            case 3 -> "O"; // Laranja
+            case 4 -> "B"; // Azul
+            case 5 -> "G"; // Verde
+            default -> "?"; // Cor não reconhecida
+        };
+    }
+}
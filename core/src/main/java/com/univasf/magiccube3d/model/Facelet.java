@@ -0,0 +1,54 @@
+package com.univasf.magiccube3d.model;
+
+// Representa um quadrado colorido em uma das faces do cubo mágico.
+// O facelet é uma visão sobre uma posição de um vetor de índices de cor (normalmente o estado do Cube).
+// A cor é o ordinal da FaceType de origem (0 a 5); a cor exibida fica a cargo da visualização.
+public class Facelet {
+
+    private final byte[] data; // Vetor de índices de cor
+    private final int index; // Posição deste facelet no vetor
+    private final Cube owner; // Cubo dono do vetor (null para facelets isolados)
+
+    // Construtor que define a cor do facelet (facelet isolado, com armazenamento próprio).
+    public Facelet(int colorIndex) {
+        this.data = new byte[] { Cube.checkColor(colorIndex) };
+        this.index = 0;
+        this.owner = null;
+    }
+
+    // Construtor usado pelas faces: cria uma visão sobre uma posição do vetor de estado
+    Facelet(byte[] data, int index, Cube owner) {
+        this.data = data;
+        this.index = index;
+        this.owner = owner;
+    }
+
+    // Retorna o índice de cor do facelet.
+    public int getColorIndex() {
+        sync();
+        return data[index];
+    }
+
+    // Define o índice de cor do facelet.
+    public void setColorIndex(int colorIndex) {
+        byte color = Cube.checkColor(colorIndex);
+        sync();
+        data[index] = color;
+        if (owner != null) {
+            owner.faceletChanged(index);
+        }
+    }
+
+    // Garante que o vetor do cubo dono está na orientação observada (após rotações x, y, z)
+    private void sync() {
+        if (owner != null) {
+            owner.normalizeFrame();
+        }
+    }
+
+    // Retorna uma representação em string da cor.
+    @Override
+    public String toString() {
+        return FaceType.values()[getColorIndex()].toString();
+    }
+}
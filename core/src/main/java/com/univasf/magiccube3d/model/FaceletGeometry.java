@@ -0,0 +1,120 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Geometria dos 54 facelets do cubo: posição da peça (x, y, z em -1..1) e normal da face.
+//
+// O sistema de coordenadas é o mesmo da visualização 3D (eixo Y apontando para baixo):
+// UP fica em y = -1, DOWN em y = +1, FRONT em z = +1, BACK em z = -1, LEFT em x = +1 e RIGHT em x = -1.
+// A partir dessas posições as tabelas de permutação dos movimentos são geradas girando as peças,
+// de modo que a semântica de cada movimento tem uma única fonte.
+final class FaceletGeometry {
+
+    static final int X = 0, Y = 1, Z = 2;
+
+    // Posição (x, y, z) e normal (nx, ny, nz) de cada facelet, indexados como em Cube
+    private static final int[][] POSITION = new int[Cube.FACELET_COUNT][];
+    private static final int[][] NORMAL = new int[Cube.FACELET_COUNT][];
+
+    static {
+        for (int row = 0; row < Face.SIZE; row++) {
+            for (int col = 0; col < Face.SIZE; col++) {
+                put(FaceType.UP, row, col, col - 1, -1, row - 1, 0, -1, 0);
+                put(FaceType.DOWN, row, col, col - 1, 1, 1 - row, 0, 1, 0);
+                put(FaceType.FRONT, row, col, col - 1, row - 1, 1, 0, 0, 1);
+                put(FaceType.BACK, row, col, 1 - col, row - 1, -1, 0, 0, -1);
+                put(FaceType.LEFT, row, col, 1, row - 1, col - 1, 1, 0, 0);
+                put(FaceType.RIGHT, row, col, -1, row - 1, 1 - col, -1, 0, 0);
+            }
+        }
+    }
+
+    private FaceletGeometry() {
+    }
+
+    private static void put(FaceType face, int row, int col, int x, int y, int z, int nx, int ny, int nz) {
+        int index = face.ordinal() * 9 + row * Face.SIZE + col;
+        POSITION[index] = new int[] { x, y, z };
+        NORMAL[index] = new int[] { nx, ny, nz };
+    }
+
+    // Retorna o índice do facelet com a posição e normal informadas
+    static int indexOf(int[] position, int[] normal) {
+        for (int i = 0; i < Cube.FACELET_COUNT; i++) {
+            if (Arrays.equals(POSITION[i], position) && Arrays.equals(NORMAL[i], normal)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Facelet inexistente");
+    }
+
+    // Gira um vetor 90° (regra da mão direita) em torno do eixo informado, "turns" vezes
+    static int[] rotate(int[] v, int axis, int turns) {
+        int[] r = v.clone();
+        for (int t = 0; t < Math.floorMod(turns, 4); t++) {
+            int x = r[X], y = r[Y], z = r[Z];
+            switch (axis) {
+                case X -> { r[Y] = -z; r[Z] = y; }
+                case Y -> { r[X] = z; r[Z] = -x; }
+                default -> { r[X] = -y; r[Y] = x; }
+            }
+        }
+        return r;
+    }
+
+    // Gera a tabela de permutação (forma "gather": novo[i] = antigo[p[i]]) que gira as camadas
+    // selecionadas em torno de um eixo. O bit (coordenada + 1) de layerMask seleciona cada camada.
+    static int[] layerPermutation(int axis, int turns, int layerMask) {
+        int[] permutation = new int[Cube.FACELET_COUNT];
+        for (int source = 0; source < Cube.FACELET_COUNT; source++) {
+            int[] position = POSITION[source];
+            int target = source;
+            if ((layerMask & (1 << (position[axis] + 1))) != 0) {
+                target = indexOf(rotate(position, axis, turns), rotate(NORMAL[source], axis, turns));
+            }
+            permutation[target] = source;
+        }
+        return permutation;
+    }
+
+    // Gera a tabela "gather" de uma transformação linear do cubo inteiro (matriz 3x3 com entradas
+    // -1, 0 e 1, podendo ser uma rotação ou uma reflexão)
+    static int[] transformPermutation(int[][] matrix) {
+        int[] permutation = new int[Cube.FACELET_COUNT];
+        for (int source = 0; source < Cube.FACELET_COUNT; source++) {
+            int target = indexOf(multiply(matrix, POSITION[source]), multiply(matrix, NORMAL[source]));
+            permutation[target] = source;
+        }
+        return permutation;
+    }
+
+    private static int[] multiply(int[][] matrix, int[] v) {
+        int[] r = new int[3];
+        for (int row = 0; row < 3; row++) {
+            r[row] = matrix[row][X] * v[X] + matrix[row][Y] * v[Y] + matrix[row][Z] * v[Z];
+        }
+        return r;
+    }
+
+    // Gera as 24 rotações do cubo inteiro (todas as camadas) como tabelas "gather", começando pela identidade
+    static List<int[]> wholeCubeRotations() {
+        List<int[]> rotations = new ArrayList<>();
+        rotations.add(layerPermutation(X, 0, 0b111));
+        int[][] generators = { layerPermutation(X, 1, 0b111), layerPermutation(Y, 1, 0b111) };
+        // Fecho por composição com as rotações geradoras em X e Y
+        for (int i = 0; i < rotations.size(); i++) {
+            for (int[] generator : generators) {
+                int[] composed = new int[Cube.FACELET_COUNT];
+                for (int k = 0; k < composed.length; k++) {
+                    composed[k] = rotations.get(i)[generator[k]];
+                }
+                if (rotations.stream().noneMatch(r -> Arrays.equals(r, composed))) {
+                    rotations.add(composed);
+                }
+            }
+        }
+        return rotations;
+    }
+}
@@ -0,0 +1,139 @@
+package com.univasf.magiccube3d.model;
+
+// Enum com os movimentos do cubo em notação Singmaster: as 18 rotações de face (U, R, F, D, L, B
+// com as variantes dupla e inversa), as 9 rotações de camada central (M, E, S) e as 9 rotações do
+// cubo inteiro (x, y, z).
+//
+// Cada movimento carrega uma tabela de permutação de 54 posições gerada a partir da geometria dos
+// facelets. Aplicar um movimento é um único "gather" sobre o vetor de estado: novo[i] = antigo[p[i]].
+public enum Move {
+    U("U", FaceletGeometry.Y, -1, 0b001, 1), U2("U2", FaceletGeometry.Y, -1, 0b001, 2),
+    U_PRIME("U'", FaceletGeometry.Y, -1, 0b001, 3),
+    R("R", FaceletGeometry.X, -1, 0b001, 1), R2("R2", FaceletGeometry.X, -1, 0b001, 2),
+    R_PRIME("R'", FaceletGeometry.X, -1, 0b001, 3),
+    F("F", FaceletGeometry.Z, 1, 0b100, 1), F2("F2", FaceletGeometry.Z, 1, 0b100, 2),
+    F_PRIME("F'", FaceletGeometry.Z, 1, 0b100, 3),
+    D("D", FaceletGeometry.Y, 1, 0b100, 1), D2("D2", FaceletGeometry.Y, 1, 0b100, 2),
+    D_PRIME("D'", FaceletGeometry.Y, 1, 0b100, 3),
+    L("L", FaceletGeometry.X, 1, 0b100, 1), L2("L2", FaceletGeometry.X, 1, 0b100, 2),
+    L_PRIME("L'", FaceletGeometry.X, 1, 0b100, 3),
+    B("B", FaceletGeometry.Z, -1, 0b001, 1), B2("B2", FaceletGeometry.Z, -1, 0b001, 2),
+    B_PRIME("B'", FaceletGeometry.Z, -1, 0b001, 3),
+    // Camadas centrais: M segue o sentido de L, E segue D e S segue F
+    M("M", FaceletGeometry.X, 1, 0b010, 1), M2("M2", FaceletGeometry.X, 1, 0b010, 2),
+    M_PRIME("M'", FaceletGeometry.X, 1, 0b010, 3),
+    E("E", FaceletGeometry.Y, 1, 0b010, 1), E2("E2", FaceletGeometry.Y, 1, 0b010, 2),
+    E_PRIME("E'", FaceletGeometry.Y, 1, 0b010, 3),
+    S("S", FaceletGeometry.Z, 1, 0b010, 1), S2("S2", FaceletGeometry.Z, 1, 0b010, 2),
+    S_PRIME("S'", FaceletGeometry.Z, 1, 0b010, 3),
+    // Cubo inteiro: x segue o sentido de R, y segue U e z segue F
+    X("x", FaceletGeometry.X, -1, 0b111, 1), X2("x2", FaceletGeometry.X, -1, 0b111, 2),
+    X_PRIME("x'", FaceletGeometry.X, -1, 0b111, 3),
+    Y("y", FaceletGeometry.Y, -1, 0b111, 1), Y2("y2", FaceletGeometry.Y, -1, 0b111, 2),
+    Y_PRIME("y'", FaceletGeometry.Y, -1, 0b111, 3),
+    Z("z", FaceletGeometry.Z, 1, 0b111, 1), Z2("z2", FaceletGeometry.Z, 1, 0b111, 2),
+    Z_PRIME("z'", FaceletGeometry.Z, 1, 0b111, 3);
+
+    // Quantidade de rotações de face (os primeiros valores do enum)
+    public static final int FACE_TURN_COUNT = 18;
+
+    private static final Move[] VALUES = values();
+
+    // Face de cada grupo de rotações de face, na ordem do enum (U, R, F, D, L, B)
+    private static final FaceType[] FACE_ORDER = {
+            FaceType.UP, FaceType.RIGHT, FaceType.FRONT, FaceType.DOWN, FaceType.LEFT, FaceType.BACK };
+
+    private final String notation; // Representação em notação Singmaster
+    private final int axis; // Eixo de rotação (0 = X, 1 = Y, 2 = Z)
+    private final int normalSign; // Sentido da normal de referência do giro ao longo do eixo (+1 ou -1)
+    private final int layerMask; // Camadas afetadas ao longo do eixo (bit 0 = -1, bit 1 = 0, bit 2 = +1)
+    private final int quarterTurns; // Quartos de volta no sentido horário (1, 2 ou 3)
+    private final Permutation permutation; // Tabela de permutação dos 54 facelets
+
+    // O sentido horário é medido olhando para a face de normal (axis, normalSign), ou seja,
+    // corresponde a girar -90° em torno dessa normal
+    Move(String notation, int axis, int normalSign, int layerMask, int quarterTurns) {
+        this.notation = notation;
+        this.axis = axis;
+        this.normalSign = normalSign;
+        this.layerMask = layerMask;
+        this.quarterTurns = quarterTurns;
+        this.permutation = new Permutation(
+                FaceletGeometry.layerPermutation(axis, axisTurns(), layerMask));
+    }
+
+    // Retorna o movimento em notação Singmaster (ex: "R'", "U2")
+    public String notation() {
+        return notation;
+    }
+
+    // Retorna o eixo de rotação do movimento (0 = X, 1 = Y, 2 = Z)
+    public int axis() {
+        return axis;
+    }
+
+    // Retorna o giro em quartos de volta pela regra da mão direita em torno do eixo (-3 a 3), no
+    // sistema de coordenadas da visualização 3D (usado também para animar as camadas)
+    public int axisTurns() {
+        return -normalSign * quarterTurns;
+    }
+
+    // Retorna a máscara de camadas afetadas ao longo do eixo
+    public int layerMask() {
+        return layerMask;
+    }
+
+    // Retorna a quantidade de quartos de volta no sentido horário (1, 2 ou 3)
+    public int quarterTurns() {
+        return quarterTurns;
+    }
+
+    // Indica se o movimento é uma rotação de face externa (U, R, F, D, L, B)
+    public boolean isFaceTurn() {
+        return ordinal() < FACE_TURN_COUNT;
+    }
+
+    // Indica se o movimento gira o cubo inteiro (x, y, z)
+    public boolean isCubeRotation() {
+        return layerMask == 0b111;
+    }
+
+    // Retorna a face girada por uma rotação de face, ou null para as camadas centrais
+    public FaceType face() {
+        return isFaceTurn() ? FACE_ORDER[ordinal() / 3] : null;
+    }
+
+    // Retorna a rotação da face informada com a quantidade de quartos de volta no sentido horário (módulo 4)
+    public static Move of(FaceType face, int quarterTurns) {
+        for (int i = 0; i < FACE_ORDER.length; i++) {
+            if (FACE_ORDER[i] == face) {
+                return VALUES[i * 3].withQuarterTurns(quarterTurns);
+            }
+        }
+        throw new IllegalArgumentException("Face inválida: " + face);
+    }
+
+    // Retorna a tabela de permutação do movimento
+    public Permutation permutation() {
+        return permutation;
+    }
+
+    // Retorna o movimento inverso (ex: R -> R', U2 -> U2)
+    public Move inverse() {
+        return withQuarterTurns(4 - quarterTurns);
+    }
+
+    // Retorna o movimento da mesma camada com a quantidade de quartos de volta informada (módulo 4)
+    public Move withQuarterTurns(int turns) {
+        int normalized = Math.floorMod(turns, 4);
+        if (normalized == 0) {
+            throw new IllegalArgumentException("Quantidade de quartos de volta nula: " + turns);
+        }
+        return VALUES[ordinal() - quarterTurns + normalized];
+    }
+
+    @Override
+    public String toString() {
+        return notation;
+    }
+}
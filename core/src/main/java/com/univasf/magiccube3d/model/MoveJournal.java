@@ -0,0 +1,201 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Histórico dos movimentos aplicados a um cubo, com desfazer/refazer e acesso a qualquer ponto da
+// sessão.
+//
+// Cada movimento ocupa um único byte (o ordinal de Move) em um vetor primitivo que cresce por
+// duplicação, de modo que sessões com centenas de milhares de movimentos ocupam poucas centenas de
+// KB. Desfazer aplica o movimento inverso e refazer reaplica o movimento gravado, ambos em O(1).
+// Aplicar um movimento novo depois de desfazer descarta os movimentos que podiam ser refeitos.
+//
+// A cada CHECKPOINT_INTERVAL movimentos o estado do cubo (54 bytes) é guardado como ponto de
+// controle. Para ir a uma posição qualquer (seek), o cubo parte do ponto de controle mais próximo
+// anterior a ela, ou da posição atual se estiver mais perto, e reaplica no máximo
+// CHECKPOINT_INTERVAL movimentos.
+public final class MoveJournal {
+
+    // Movimentos entre dois pontos de controle consecutivos
+    public static final int CHECKPOINT_INTERVAL = 1024;
+
+    private static final Move[] MOVES = Move.values();
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Cube cube;
+
+    // Movimentos gravados (ordinais de Move); as posições [0, size) são válidas
+    private byte[] moves = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    // Quantidade de movimentos aplicados ao cubo; as posições [position, size) podem ser refeitas
+    private int position;
+
+    // Estados nos pontos de controle: o ponto k (estado depois de k * CHECKPOINT_INTERVAL
+    // movimentos) ocupa as posições [k * 54, (k + 1) * 54). O ponto 0 é o estado inicial.
+    private byte[] checkpoints = new byte[4 * Cube.FACELET_COUNT];
+    private int checkpointCount;
+
+    // Vetor auxiliar para a cópia do estado do cubo
+    private final byte[] state = new byte[Cube.FACELET_COUNT];
+
+    // Cria um histórico vazio que parte do estado atual do cubo
+    public MoveJournal(Cube cube) {
+        if (cube == null) {
+            throw new IllegalArgumentException("Cubo não pode ser nulo");
+        }
+        this.cube = cube;
+        clear();
+    }
+
+    // Retorna o cubo controlado pelo histórico
+    public Cube getCube() {
+        return cube;
+    }
+
+    // Descarta o histórico; o estado atual do cubo passa a ser o ponto de partida
+    public void clear() {
+        size = 0;
+        position = 0;
+        checkpointCount = 0;
+        if (moves.length > INITIAL_CAPACITY) {
+            moves = new byte[INITIAL_CAPACITY];
+            checkpoints = new byte[4 * Cube.FACELET_COUNT];
+        }
+        saveCheckpoint();
+    }
+
+    // Volta o cubo ao estado resolvido e começa um histórico novo (sem recriar o cubo)
+    public void reset() {
+        cube.initializeSolvedState();
+        clear();
+    }
+
+    // Aplica um movimento ao cubo e o grava, descartando os movimentos que podiam ser refeitos
+    public void apply(Move move) {
+        truncate();
+        cube.apply(move);
+        record(move);
+    }
+
+    // Aplica uma sequência de movimentos e a grava. Os trechos entre pontos de controle são
+    // aplicados como uma só permutação fundida.
+    public void apply(List<Move> sequence) {
+        truncate();
+        int start = 0;
+        while (start < sequence.size()) {
+            // Quantos movimentos faltam até o próximo ponto de controle
+            int end = Math.min(sequence.size(), start + CHECKPOINT_INTERVAL - size % CHECKPOINT_INTERVAL);
+            List<Move> chunk = sequence.subList(start, end);
+            cube.apply(Permutation.of(chunk));
+            for (Move move : chunk) {
+                record(move);
+            }
+            start = end;
+        }
+    }
+
+    // Desfaz o último movimento aplicado. Retorna false se não houver movimento a desfazer.
+    public boolean undo() {
+        if (position == 0) {
+            return false;
+        }
+        cube.apply(MOVES[moves[--position]].inverse());
+        return true;
+    }
+
+    // Refaz o último movimento desfeito. Retorna false se não houver movimento a refazer.
+    public boolean redo() {
+        if (position == size) {
+            return false;
+        }
+        cube.apply(MOVES[moves[position++]]);
+        return true;
+    }
+
+    public boolean canUndo() {
+        return position > 0;
+    }
+
+    public boolean canRedo() {
+        return position < size;
+    }
+
+    // Leva o cubo ao estado depois dos primeiros "target" movimentos gravados
+    public void seek(int target) {
+        if (target < 0 || target > size) {
+            throw new IllegalArgumentException("Posição fora do histórico: " + target + " (0 a " + size + ")");
+        }
+        int checkpoint = target / CHECKPOINT_INTERVAL;
+        int fromCheckpoint = target - checkpoint * CHECKPOINT_INTERVAL;
+        if (Math.abs(target - position) > fromCheckpoint) {
+            System.arraycopy(checkpoints, checkpoint * Cube.FACELET_COUNT, state, 0, Cube.FACELET_COUNT);
+            cube.loadState(state);
+            position = checkpoint * CHECKPOINT_INTERVAL;
+        }
+        while (position > target) {
+            undo();
+        }
+        while (position < target) {
+            redo();
+        }
+    }
+
+    // Quantidade de movimentos aplicados (posição atual no histórico)
+    public int position() {
+        return position;
+    }
+
+    // Quantidade total de movimentos gravados, incluindo os que podem ser refeitos
+    public int size() {
+        return size;
+    }
+
+    // Retorna o movimento gravado na posição informada
+    public Move get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Posição fora do histórico: " + index + " (0 a " + (size - 1) + ")");
+        }
+        return MOVES[moves[index]];
+    }
+
+    // Retorna os movimentos aplicados até a posição atual, na ordem
+    public List<Move> appliedMoves() {
+        Move[] applied = new Move[position];
+        for (int i = 0; i < position; i++) {
+            applied[i] = MOVES[moves[i]];
+        }
+        return List.of(applied);
+    }
+
+    // Descarta os movimentos depois da posição atual e os pontos de controle que dependiam deles
+    private void truncate() {
+        if (position < size) {
+            size = position;
+            checkpointCount = size / CHECKPOINT_INTERVAL + 1;
+        }
+    }
+
+    // Grava um movimento já aplicado ao cubo, guardando um ponto de controle quando necessário
+    private void record(Move move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[size++] = (byte) move.ordinal();
+        position = size;
+        if (size % CHECKPOINT_INTERVAL == 0) {
+            saveCheckpoint();
+        }
+    }
+
+    private void saveCheckpoint() {
+        int offset = checkpointCount * Cube.FACELET_COUNT;
+        if (offset == checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+        }
+        cube.copyStateTo(state);
+        System.arraycopy(state, 0, checkpoints, offset, Cube.FACELET_COUNT);
+        checkpointCount++;
+    }
+}
@@ -0,0 +1,42 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Simplificação de sequências de movimentos antes de aplicá-las ao cubo: movimentos inversos
+// seguidos se cancelam (R R' -> nada), giros da mesma camada se somam (R R -> R2, R R R -> R') e
+// movimentos em torno do mesmo eixo comutam, o que expõe mais cancelamentos (R L R' -> L).
+//
+// A sequência simplificada tem exatamente o mesmo efeito sobre o cubo. A saída é montada como uma
+// pilha: cada movimento é combinado com o da mesma camada dentro do último bloco de movimentos do
+// mesmo eixo, se houver, ou empilhado. Cancelamentos em cadeia (R U U' R') saem em uma única
+// passada, em tempo linear: o bloco final tem no máximo quatro camadas distintas (as três camadas
+// e o cubo inteiro).
+public final class MoveSimplifier {
+
+    private MoveSimplifier() {
+    }
+
+    // Retorna a sequência simplificada (a lista original não é alterada)
+    public static List<Move> simplify(List<Move> moves) {
+        List<Move> result = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            int i = result.size() - 1;
+            // Percorre o bloco final de movimentos do mesmo eixo, que comutam com "move"
+            while (i >= 0 && result.get(i).axis() == move.axis() && result.get(i).layerMask() != move.layerMask()) {
+                i--;
+            }
+            if (i >= 0 && result.get(i).axis() == move.axis()) {
+                int turns = (result.get(i).quarterTurns() + move.quarterTurns()) % 4;
+                if (turns == 0) {
+                    result.remove(i);
+                } else {
+                    result.set(i, result.get(i).withQuarterTurns(turns));
+                }
+            } else {
+                result.add(move);
+            }
+        }
+        return result;
+    }
+}
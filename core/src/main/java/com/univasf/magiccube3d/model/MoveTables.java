@@ -0,0 +1,94 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+// Tabelas de movimento das coordenadas do CubieCube: para cada valor de coordenada e cada uma das
+// 18 rotações de face, guardam o valor da coordenada após o movimento. Com elas, aplicar um
+// movimento a uma coordenada é uma única leitura de vetor.
+//
+// Cada tabela é gerada na primeira utilização (classes "holder") e armazenada em um vetor
+// linear indexado por coordenada * 18 + movimento.
+public final class MoveTables {
+
+    public static final int MOVE_COUNT = Move.FACE_TURN_COUNT;
+
+    private MoveTables() {
+    }
+
+    // Orientação dos cantos após o movimento (0..2186)
+    public static int twistMove(int twist, int move) {
+        return Twist.TABLE[twist * MOVE_COUNT + move];
+    }
+
+    // Orientação das arestas após o movimento (0..2047)
+    public static int flipMove(int flip, int move) {
+        return Flip.TABLE[flip * MOVE_COUNT + move];
+    }
+
+    // Posição das arestas da camada E após o movimento (0..494)
+    public static int sliceMove(int slice, int move) {
+        return Slice.TABLE[slice * MOVE_COUNT + move];
+    }
+
+    // Permutação dos cantos após o movimento (0..40319)
+    public static int cornerPermutationMove(int cornerPermutation, int move) {
+        return CornerPermutation.TABLE[cornerPermutation * MOVE_COUNT + move];
+    }
+
+    // Permutação das arestas U/D após o movimento (0..40319); válida para os movimentos do subgrupo
+    // <U, D, R2, F2, L2, B2>
+    public static int udEdgePermutationMove(int udEdgePermutation, int move) {
+        return UdEdgePermutation.TABLE[udEdgePermutation * MOVE_COUNT + move];
+    }
+
+    // Permutação das arestas da camada E após o movimento (0..23); válida para os movimentos do
+    // subgrupo <U, D, R2, F2, L2, B2>
+    public static int slicePermutationMove(int slicePermutation, int move) {
+        return SlicePermutation.TABLE[slicePermutation * MOVE_COUNT + move];
+    }
+
+    // Gera a tabela de movimento de uma coordenada com "size" valores
+    static char[] build(int size, ObjIntConsumer<CubieCube> setter, ToIntFunction<CubieCube> getter) {
+        char[] table = new char[size * MOVE_COUNT];
+        Move[] moves = Move.values();
+        CubieCube cube = new CubieCube();
+        CubieCube moved = new CubieCube();
+        for (int value = 0; value < size; value++) {
+            setter.accept(cube, value);
+            for (int m = 0; m < MOVE_COUNT; m++) {
+                moved.copyFrom(cube);
+                moved.apply(moves[m]);
+                table[value * MOVE_COUNT + m] = (char) getter.applyAsInt(moved);
+            }
+        }
+        return table;
+    }
+
+    private static final class Twist {
+        static final char[] TABLE = build(CubieCube.TWIST_COUNT, CubieCube::setTwist, CubieCube::getTwist);
+    }
+
+    private static final class Flip {
+        static final char[] TABLE = build(CubieCube.FLIP_COUNT, CubieCube::setFlip, CubieCube::getFlip);
+    }
+
+    private static final class Slice {
+        static final char[] TABLE = build(CubieCube.SLICE_COUNT, CubieCube::setSlice, CubieCube::getSlice);
+    }
+
+    private static final class CornerPermutation {
+        static final char[] TABLE = build(CubieCube.CORNER_PERMUTATION_COUNT,
+                CubieCube::setCornerPermutation, CubieCube::getCornerPermutation);
+    }
+
+    private static final class UdEdgePermutation {
+        static final char[] TABLE = build(CubieCube.UD_EDGE_PERMUTATION_COUNT,
+                CubieCube::setUdEdgePermutation, CubieCube::getUdEdgePermutation);
+    }
+
+    private static final class SlicePermutation {
+        static final char[] TABLE = build(CubieCube.SLICE_PERMUTATION_COUNT,
+                CubieCube::setSlicePermutation, CubieCube::getSlicePermutation);
+    }
+}
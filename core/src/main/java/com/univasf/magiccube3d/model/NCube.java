@@ -0,0 +1,256 @@
+package com.univasf.magiccube3d.model;
+
+import static com.univasf.magiccube3d.model.FaceletGeometry.X;
+import static com.univasf.magiccube3d.model.FaceletGeometry.Y;
+import static com.univasf.magiccube3d.model.FaceletGeometry.Z;
+
+// Cubo N×N×N (2 ≤ N ≤ MAX_SIZE) para simulações com cubos grandes, com a mesma geometria e as
+// mesmas cores do Cube 3x3.
+//
+// O estado é um único vetor de 6·N² bytes (índices de cor), sem objetos por facelet. Cada face
+// guarda também uma orientação (0 a 3 quartos de volta horários): girar a face externa de uma
+// camada só altera esse número, e as leituras convertem (linha, coluna) pela orientação. Assim,
+// girar qualquer camada custa O(N), apenas os 4N facelets do anel em volta dela.
+//
+// As camadas são indexadas pela profundidade a partir de uma face: turn(FaceType.RIGHT, 0, 1) é R,
+// turn(FaceType.RIGHT, 1, 1) é a segunda camada paralela a R, e assim por diante. Os anéis de
+// cada camada são calculados a partir da geometria na primeira vez em que a camada gira.
+public final class NCube {
+
+    public static final int MIN_SIZE = 2;
+    public static final int MAX_SIZE = 1024;
+
+    private static final FaceType[] FACE_TYPES = FaceType.values();
+
+    // Eixo e sentido da normal externa de cada face, indexados pelo ordinal da FaceType
+    // (mesmo sistema de coordenadas de FaceletGeometry, com o eixo Y apontando para baixo)
+    private static final int[] NORMAL_AXIS = { Y, Y, Z, Z, X, X };
+    private static final int[] NORMAL_SIGN = { -1, 1, 1, -1, 1, -1 };
+
+    private final int size;
+    private final int area; // N², facelets por face
+
+    // Índice de cor de cada facelet, na posição física: face * N² + linha * N + coluna da face
+    // ainda não girada
+    private final byte[] stickers;
+
+    // Quartos de volta horários acumulados de cada face, indexados pelo ordinal da FaceType
+    private final int[] orientation = new int[FACE_TYPES.length];
+
+    // Variação da orientação de cada face em um quarto de volta pela regra da mão direita em
+    // torno do seu eixo (+1 se o giro é horário visto de fora da face, -1 caso contrário)
+    private final int[] spin = new int[FACE_TYPES.length];
+
+    // Anéis de facelets (índices lógicos) de cada camada, indexados por eixo * N + camada: um
+    // quarto de volta leva o facelet da posição j do anel para a posição j + N
+    private final int[][] rings;
+
+    private final byte[] buffer; // Cores de um anel durante um giro
+
+    // Cria um cubo N×N×N resolvido
+    public NCube(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Tamanho inválido: " + size);
+        }
+        this.size = size;
+        this.area = size * size;
+        this.stickers = new byte[FACE_TYPES.length * area];
+        this.rings = new int[3 * size][];
+        this.buffer = new byte[4 * size];
+        for (int face = 0; face < FACE_TYPES.length; face++) {
+            int moved = rotated(face * area, NORMAL_AXIS[face]); // Para onde vai o facelet (0, 0)
+            spin[face] = moved == face * area + size - 1 ? 1 : -1;
+        }
+        reset();
+    }
+
+    // Retorna o tamanho N do cubo
+    public int size() {
+        return size;
+    }
+
+    // Volta ao estado resolvido (cada face com a cor do ordinal da sua FaceType)
+    public void reset() {
+        for (int face = 0; face < FACE_TYPES.length; face++) {
+            java.util.Arrays.fill(stickers, face * area, (face + 1) * area, (byte) face);
+            orientation[face] = 0;
+        }
+    }
+
+    // Retorna o índice de cor do facelet na linha e coluna da face, com a mesma orientação de
+    // linhas e colunas das faces do Cube 3x3
+    public int getColorIndex(FaceType face, int row, int col) {
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            throw new IllegalArgumentException("Indice invalido: " + row + " " + col);
+        }
+        return stickers[physical(face.ordinal(), row, col)];
+    }
+
+    // Indica se cada face tem uma única cor
+    public boolean isSolved() {
+        for (int face = 0; face < FACE_TYPES.length; face++) {
+            int start = face * area;
+            byte color = stickers[start];
+            for (int i = start + 1; i < start + area; i++) {
+                if (stickers[i] != color) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Gira a camada na profundidade "depth" (0 = a própria face) em quartos de volta no sentido
+    // horário, olhando para a face informada; valores negativos giram no sentido anti-horário
+    public void turn(FaceType face, int depth, int quarterTurns) {
+        if (depth < 0 || depth >= size) {
+            throw new IllegalArgumentException("Camada inválida: " + depth);
+        }
+        int sign = NORMAL_SIGN[face.ordinal()];
+        int layer = sign > 0 ? size - 1 - depth : depth;
+        rotateLayer(NORMAL_AXIS[face.ordinal()], layer, -sign * quarterTurns);
+    }
+
+    // Aplica um movimento do cubo 3x3: as faces giram a camada externa, x/y/z giram todas as
+    // camadas e M/E/S giram a camada do meio (existe apenas quando N é ímpar)
+    public void apply(Move move) {
+        int turns = move.axisTurns();
+        if (move.isCubeRotation()) {
+            for (int layer = 0; layer < size; layer++) {
+                rotateLayer(move.axis(), layer, turns);
+            }
+            return;
+        }
+        if ((move.layerMask() & 0b010) != 0 && size % 2 == 0) {
+            throw new IllegalArgumentException("Movimento " + move + " sem camada central em um cubo " + size + "x" + size);
+        }
+        if ((move.layerMask() & 0b001) != 0) {
+            rotateLayer(move.axis(), 0, turns);
+        }
+        if ((move.layerMask() & 0b010) != 0) {
+            rotateLayer(move.axis(), size / 2, turns);
+        }
+        if ((move.layerMask() & 0b100) != 0) {
+            rotateLayer(move.axis(), size - 1, turns);
+        }
+    }
+
+    // Gira a camada de coordenada "layer" (0 a N-1) ao longo do eixo, "turns" quartos de volta
+    // pela regra da mão direita
+    private void rotateLayer(int axis, int layer, int turns) {
+        int t = Math.floorMod(turns, 4);
+        if (t == 0) {
+            return;
+        }
+        int[] ring = ring(axis, layer);
+        int length = ring.length;
+        for (int j = 0; j < length; j++) {
+            buffer[j] = stickers[physical(ring[j])];
+        }
+        int shift = t * size;
+        for (int j = 0; j < length; j++) {
+            int target = j + shift < length ? j + shift : j + shift - length;
+            stickers[physical(ring[target])] = buffer[j];
+        }
+        // As camadas das pontas também giram a face inteira, só pela orientação
+        for (int face = 0; face < FACE_TYPES.length; face++) {
+            if (NORMAL_AXIS[face] == axis && layer == (NORMAL_SIGN[face] > 0 ? size - 1 : 0)) {
+                orientation[face] = (orientation[face] + spin[face] * t) & 3;
+            }
+        }
+    }
+
+    private int physical(int logical) {
+        int face = logical / area;
+        int rest = logical - face * area;
+        return physical(face, rest / size, rest % size);
+    }
+
+    // Converte (linha, coluna) da face para a posição física, desfazendo a orientação da face
+    private int physical(int face, int row, int col) {
+        int last = size - 1;
+        int base = face * area;
+        return switch (orientation[face]) {
+            case 0 -> base + row * size + col;
+            case 1 -> base + (last - col) * size + row;
+            case 2 -> base + (last - row) * size + last - col;
+            default -> base + col * size + last - row;
+        };
+    }
+
+    private int[] ring(int axis, int layer) {
+        int[] ring = rings[axis * size + layer];
+        if (ring == null) {
+            ring = new int[4 * size];
+            int start = NORMAL_AXIS[0] == axis ? FaceType.FRONT.ordinal() : FaceType.UP.ordinal();
+            int count = 0;
+            for (int i = start * area; i < (start + 1) * area; i++) {
+                if (position(i)[axis] == layer) {
+                    ring[count++] = i;
+                }
+            }
+            // Os outros três lados do anel são o primeiro girado 1, 2 e 3 quartos de volta
+            for (int j = size; j < ring.length; j++) {
+                ring[j] = rotated(ring[j - size], axis);
+            }
+            rings[axis * size + layer] = ring;
+        }
+        return ring;
+    }
+
+    // Índice lógico para onde um quarto de volta (mão direita) em torno do eixo leva o facelet
+    private int rotated(int logical, int axis) {
+        int face = logical / area;
+        int[] position = position(logical);
+        int[] normal = new int[3];
+        normal[NORMAL_AXIS[face]] = NORMAL_SIGN[face];
+        // Gira em coordenadas centradas e dobradas (2p - (N - 1)), para que o centro fique na origem
+        int[] centered = new int[3];
+        for (int k = 0; k < 3; k++) {
+            centered[k] = 2 * position[k] - (size - 1);
+        }
+        centered = FaceletGeometry.rotate(centered, axis, 1);
+        for (int k = 0; k < 3; k++) {
+            position[k] = (centered[k] + size - 1) / 2;
+        }
+        return locate(position, FaceletGeometry.rotate(normal, axis, 1));
+    }
+
+    // Posição (x, y, z em 0..N-1) da peça de um facelet; a coordenada 0 corresponde a -1 no 3x3
+    private int[] position(int logical) {
+        int face = logical / area;
+        int row = (logical - face * area) / size;
+        int col = logical % size;
+        int last = size - 1;
+        return switch (FACE_TYPES[face]) {
+            case UP -> new int[] { col, 0, row };
+            case DOWN -> new int[] { col, last, last - row };
+            case FRONT -> new int[] { col, row, last };
+            case BACK -> new int[] { last - col, row, 0 };
+            case LEFT -> new int[] { last, row, col };
+            case RIGHT -> new int[] { 0, row, last - col };
+        };
+    }
+
+    // Índice lógico do facelet com a posição e a normal informadas (inverso de position)
+    private int locate(int[] position, int[] normal) {
+        int last = size - 1;
+        int x = position[X], y = position[Y], z = position[Z];
+        FaceType face;
+        int row, col;
+        if (normal[Y] != 0) {
+            face = normal[Y] < 0 ? FaceType.UP : FaceType.DOWN;
+            row = normal[Y] < 0 ? z : last - z;
+            col = x;
+        } else if (normal[Z] != 0) {
+            face = normal[Z] > 0 ? FaceType.FRONT : FaceType.BACK;
+            row = y;
+            col = normal[Z] > 0 ? x : last - x;
+        } else {
+            face = normal[X] > 0 ? FaceType.LEFT : FaceType.RIGHT;
+            row = y;
+            col = normal[X] > 0 ? z : last - z;
+        }
+        return face.ordinal() * area + row * size + col;
+    }
+}
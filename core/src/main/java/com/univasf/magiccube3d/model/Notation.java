@@ -0,0 +1,155 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Leitura de sequências em notação Singmaster, como "R U R' U2 M E S x y z".
+//
+// Cada movimento é uma letra (U, R, F, D, L, B, M, E, S, x, y, z) seguida opcionalmente de uma
+// quantidade de quartos de volta e de um apóstrofo, que inverte o sentido ("R2", "R'", "R2'").
+// Trechos entre parênteses podem ser repetidos e invertidos: "(R U R' U')6", "(R U)'".
+// Espaços entre os movimentos são opcionais.
+//
+// compile() funde a sequência inteira em uma única Permutation, que pode ser guardada e aplicada a
+// quantos cubos forem necessários com Cube.apply(Permutation), em uma só passada cada, sem voltar
+// a interpretar o texto.
+public final class Notation {
+
+    // Limite de movimentos após expandir as repetições, para rejeitar entradas como "(R U)999999999"
+    public static final int MAX_LENGTH = 1 << 20;
+
+    private static final String LETTERS = "URFDLBMESxyz";
+
+    // Primeiro movimento (quarto de volta horário) de cada letra, na ordem de LETTERS
+    private static final Move[] BASE_MOVES = {
+            Move.U, Move.R, Move.F, Move.D, Move.L, Move.B, Move.M, Move.E, Move.S, Move.X, Move.Y, Move.Z };
+
+    private Notation() {
+    }
+
+    // Converte a sequência em uma lista de movimentos, com as repetições expandidas
+    public static List<Move> parse(String text) {
+        Parser parser = new Parser(text);
+        List<Move> moves = parser.sequence();
+        if (parser.position < text.length()) {
+            throw parser.error("Parêntese sem abertura");
+        }
+        return moves;
+    }
+
+    // Compila a sequência (já simplificada) em uma única permutação dos facelets
+    public static Permutation compile(String text) {
+        return Permutation.of(MoveSimplifier.simplify(parse(text)));
+    }
+
+    // Formata os movimentos em notação Singmaster, separados por espaços
+    public static String format(List<Move> moves) {
+        StringBuilder text = new StringBuilder(moves.size() * 3);
+        for (Move move : moves) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append(move.notation());
+        }
+        return text.toString();
+    }
+
+    // Analisador descendente recursivo: sequência = (movimento | "(" sequência ")" sufixo)*
+    private static final class Parser {
+
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        List<Move> sequence() {
+            List<Move> moves = new ArrayList<>();
+            while (true) {
+                skipSpaces();
+                if (position >= text.length() || text.charAt(position) == ')') {
+                    return moves;
+                }
+                char c = text.charAt(position);
+                if (c == '(') {
+                    int start = position++;
+                    List<Move> group = sequence();
+                    if (position >= text.length()) {
+                        position = start;
+                        throw error("Parêntese sem fechamento");
+                    }
+                    position++;
+                    int repeat = count(1);
+                    if (prime()) {
+                        group = inverse(group);
+                    }
+                    if ((long) group.size() * repeat + moves.size() > MAX_LENGTH) {
+                        throw error("Sequência longa demais");
+                    }
+                    for (int i = 0; i < repeat; i++) {
+                        moves.addAll(group);
+                    }
+                } else {
+                    int letter = LETTERS.indexOf(c);
+                    if (letter < 0) {
+                        throw error("Movimento desconhecido '" + c + "'");
+                    }
+                    position++;
+                    int turns = count(1);
+                    if (prime()) {
+                        turns = -turns;
+                    }
+                    // Quantidades múltiplas de 4 (ex: "R4") não alteram o cubo
+                    if (Math.floorMod(turns, 4) != 0) {
+                        moves.add(BASE_MOVES[letter].withQuarterTurns(turns));
+                    }
+                }
+            }
+        }
+
+        private void skipSpaces() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        // Lê uma quantidade opcional (sem espaços antes), retornando "absent" se não houver dígitos
+        private int count(int absent) {
+            int start = position;
+            while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                return absent;
+            }
+            try {
+                return Integer.parseInt(text, start, position, 10);
+            } catch (NumberFormatException e) {
+                position = start;
+                throw error("Quantidade inválida");
+            }
+        }
+
+        // Consome um apóstrofo opcional (também aceita o apóstrofo tipográfico)
+        private boolean prime() {
+            if (position < text.length() && (text.charAt(position) == '\'' || text.charAt(position) == '’')) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static List<Move> inverse(List<Move> moves) {
+            List<Move> inverse = new ArrayList<>(moves.size());
+            for (int i = moves.size() - 1; i >= 0; i--) {
+                inverse.add(moves.get(i).inverse());
+            }
+            return inverse;
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " na posição " + (position + 1) + ": " + text);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.Arrays;
+
+// Permutação imutável dos 54 facelets do cubo, na forma "gather": após aplicá-la, a posição i
+// recebe a cor que estava na posição get(i).
+//
+// Uma sequência de movimentos pode ser composta em uma única permutação (then/of), que depois é
+// aplicada ao cubo em uma só passada, quantas vezes for necessário.
+public final class Permutation {
+
+    // Permutação que não altera nenhuma posição
+    public static final Permutation IDENTITY = identity();
+
+    private final int[] table;
+    private final int[] moved; // Posições que mudam de cor (table[i] != i), em ordem crescente
+
+    // Cria uma permutação a partir de uma tabela "gather" (a tabela não é copiada)
+    Permutation(int[] table) {
+        this.table = table;
+        int count = 0;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != i) {
+                count++;
+            }
+        }
+        this.moved = new int[count];
+        for (int i = 0, k = 0; i < table.length; i++) {
+            if (table[i] != i) {
+                moved[k++] = i;
+            }
+        }
+    }
+
+    private static Permutation identity() {
+        int[] table = new int[Cube.FACELET_COUNT];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = i;
+        }
+        return new Permutation(table);
+    }
+
+    // Compõe uma sequência de movimentos em uma única permutação
+    public static Permutation of(Move... moves) {
+        return of(Arrays.asList(moves));
+    }
+
+    // Compõe uma sequência de movimentos em uma única permutação
+    public static Permutation of(Iterable<Move> moves) {
+        int[] table = IDENTITY.table.clone();
+        int[] scratch = new int[table.length];
+        for (Move move : moves) {
+            int[] next = move.permutation().table;
+            for (int i = 0; i < table.length; i++) {
+                scratch[i] = table[next[i]];
+            }
+            int[] tmp = table;
+            table = scratch;
+            scratch = tmp;
+        }
+        return new Permutation(table);
+    }
+
+    // Retorna a posição de origem da cor que vai para a posição informada
+    public int get(int index) {
+        return table[index];
+    }
+
+    // Retorna a permutação equivalente a aplicar esta e depois a informada
+    public Permutation then(Permutation next) {
+        int[] result = new int[table.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = table[next.table[i]];
+        }
+        return new Permutation(result);
+    }
+
+    // Retorna a permutação inversa
+    public Permutation inverse() {
+        int[] result = new int[table.length];
+        for (int i = 0; i < result.length; i++) {
+            result[table[i]] = i;
+        }
+        return new Permutation(result);
+    }
+
+    // Retorna a permutação aplicada n vezes seguidas (n pode ser negativo)
+    public Permutation power(int n) {
+        Permutation base = n < 0 ? inverse() : this;
+        Permutation result = IDENTITY;
+        // Exponenciação por quadrados
+        for (int e = Math.abs(n); e > 0; e >>= 1) {
+            if ((e & 1) != 0) {
+                result = result.then(base);
+            }
+            base = base.then(base);
+        }
+        return result;
+    }
+
+    // Indica se a permutação não altera nenhuma posição
+    public boolean isIdentity() {
+        return Arrays.equals(table, IDENTITY.table);
+    }
+
+    // Posições alteradas pela permutação (as demais ficam como estão); o vetor não deve ser modificado
+    int[] moved() {
+        return moved;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Permutation other && Arrays.equals(table, other.table);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(table);
+    }
+}
@@ -0,0 +1,257 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// As 48 simetrias do cubo: as 24 rotações do cubo inteiro e as mesmas rotações compostas com um
+// espelhamento. Conjugar um estado por uma simetria equivale a observar o cubo girado (ou refletido)
+// e renomear as cores para que cada centro volte a ter a cor da sua face; estados conjugados têm a
+// mesma distância até o cubo resolvido e as soluções de um se traduzem nas do outro (conjugate).
+//
+// O representante canônico de um estado é o menor conjugado, comparando os índices de cor posição
+// a posição. Dois estados são equivalentes se e somente se têm o mesmo representante, de modo que
+// caches, tabelas e conjuntos de estados podem guardar uma única entrada por classe
+// (canonicalHash), até 48 vezes menos entradas.
+//
+// Simetrias são identificadas por índices de 0 a 47: o índice 0 é a identidade, de 0 a 23 são
+// rotações e de 24 a 47 são reflexões. As tabelas de facelets, de cores, do produto, das inversas
+// e da conjugação de movimentos são calculadas uma única vez, na carga da classe.
+public final class Symmetry {
+
+    public static final int COUNT = 48;
+    public static final int ROTATION_COUNT = 24;
+
+    private static final int COLOR_COUNT = FaceType.values().length;
+    private static final Move[] MOVES = Move.values();
+
+    // Tabela "gather" de cada simetria: o conjugado tem em i a cor (renomeada) da posição FACELET[s][i]
+    private static final int[][] FACELET = new int[COUNT][];
+    // Nova cor de cada cor: a face para onde a simetria leva o centro daquela cor
+    private static final byte[][] COLOR = new byte[COUNT][COLOR_COUNT];
+    // PRODUCT[a][b]: simetria equivalente a aplicar a e depois b
+    private static final int[][] PRODUCT = new int[COUNT][COUNT];
+    private static final int[] INVERSE = new int[COUNT];
+    // MOVE[s][m]: movimento que, no estado conjugado por s, corresponde ao movimento m do original
+    private static final Move[][] MOVE = new Move[COUNT][MOVES.length];
+    // Simetria equivalente a cada rotação do cubo inteiro (x, y, z), ou -1 para os demais movimentos
+    private static final int[] ROTATION_OF = new int[MOVES.length];
+
+    static {
+        List<int[][]> matrices = matrices();
+        for (int s = 0; s < COUNT; s++) {
+            FACELET[s] = FaceletGeometry.transformPermutation(matrices.get(s));
+            for (int target = 0; target < Cube.FACELET_COUNT; target++) {
+                int source = FACELET[s][target];
+                if (source % 9 == 4) {
+                    COLOR[s][source / 9] = (byte) (target / 9); // O centro de "source" vai para a face de "target"
+                }
+            }
+        }
+        for (int a = 0; a < COUNT; a++) {
+            for (int b = 0; b < COUNT; b++) {
+                int[] composed = new int[Cube.FACELET_COUNT];
+                for (int i = 0; i < composed.length; i++) {
+                    composed[i] = FACELET[a][FACELET[b][i]];
+                }
+                PRODUCT[a][b] = indexOf(composed);
+                if (PRODUCT[a][b] == 0) {
+                    INVERSE[a] = b;
+                }
+            }
+        }
+        for (int s = 0; s < COUNT; s++) {
+            int[] inverse = FACELET[INVERSE[s]];
+            for (Move move : MOVES) {
+                // p'[i] = g⁻¹[p[g[i]]]: mover e depois conjugar é o mesmo que conjugar e mover com p'
+                int[] conjugated = new int[Cube.FACELET_COUNT];
+                for (int i = 0; i < conjugated.length; i++) {
+                    conjugated[i] = inverse[move.permutation().get(FACELET[s][i])];
+                }
+                Permutation permutation = new Permutation(conjugated);
+                for (Move candidate : MOVES) {
+                    if (candidate.permutation().equals(permutation)) {
+                        MOVE[s][move.ordinal()] = candidate;
+                    }
+                }
+                if (MOVE[s][move.ordinal()] == null) {
+                    throw new IllegalStateException("Movimento " + move + " sem conjugado pela simetria " + s);
+                }
+            }
+        }
+        for (Move move : MOVES) {
+            ROTATION_OF[move.ordinal()] = move.isCubeRotation() ? indexOf(tableOf(move.permutation())) : -1;
+        }
+    }
+
+    private static int[] tableOf(Permutation permutation) {
+        int[] table = new int[Cube.FACELET_COUNT];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = permutation.get(i);
+        }
+        return table;
+    }
+
+    private Symmetry() {
+    }
+
+    // Matrizes 3x3 de permutação com sinais (as 48 isometrias que preservam o cubo), com a
+    // identidade primeiro, depois as demais rotações (determinante +1) e por fim as reflexões
+    private static List<int[][]> matrices() {
+        int[][] axisOrders = { { 0, 1, 2 }, { 1, 2, 0 }, { 2, 0, 1 }, { 0, 2, 1 }, { 2, 1, 0 }, { 1, 0, 2 } };
+        List<int[][]> rotations = new ArrayList<>();
+        List<int[][]> reflections = new ArrayList<>();
+        for (int order = 0; order < axisOrders.length; order++) {
+            for (int signs = 0; signs < 8; signs++) {
+                int[][] matrix = new int[3][3];
+                int determinant = order < 3 ? 1 : -1; // As três últimas ordens trocam dois eixos
+                for (int row = 0; row < 3; row++) {
+                    int sign = (signs >> row & 1) == 0 ? 1 : -1;
+                    matrix[row][axisOrders[order][row]] = sign;
+                    determinant *= sign;
+                }
+                (determinant > 0 ? rotations : reflections).add(matrix);
+            }
+        }
+        rotations.addAll(reflections);
+        return rotations;
+    }
+
+    private static int indexOf(int[] facelets) {
+        for (int s = 0; s < COUNT; s++) {
+            if (Arrays.equals(FACELET[s], facelets)) {
+                return s;
+            }
+        }
+        throw new IllegalStateException("Composição de simetrias inválida");
+    }
+
+    private static void check(int symmetry) {
+        if (symmetry < 0 || symmetry >= COUNT) {
+            throw new IllegalArgumentException("Simetria inválida: " + symmetry);
+        }
+    }
+
+    // Indica se a simetria inverte a orientação (espelhamento), trocando giros horários e anti-horários
+    public static boolean isReflection(int symmetry) {
+        check(symmetry);
+        return symmetry >= ROTATION_COUNT;
+    }
+
+    // Simetria equivalente a aplicar "first" e depois "second"
+    public static int multiply(int first, int second) {
+        check(first);
+        check(second);
+        return PRODUCT[first][second];
+    }
+
+    public static int inverse(int symmetry) {
+        check(symmetry);
+        return INVERSE[symmetry];
+    }
+
+    // Movimento correspondente a "move" no estado conjugado pela simetria
+    public static Move conjugate(Move move, int symmetry) {
+        check(symmetry);
+        return MOVE[symmetry][move.ordinal()];
+    }
+
+    // Traduz uma sequência de movimentos para o estado conjugado. Se "moves" resolve o
+    // representante canônico obtido com a simetria s, conjugate(moves, inverse(s)) resolve o
+    // estado original.
+    public static List<Move> conjugate(List<Move> moves, int symmetry) {
+        check(symmetry);
+        List<Move> result = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            result.add(MOVE[symmetry][move.ordinal()]);
+        }
+        return result;
+    }
+
+    // Conjuga o estado do cubo pela simetria, no próprio cubo
+    public static void transform(Cube cube, int symmetry) {
+        check(symmetry);
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        cube.copyStateTo(state);
+        byte[] conjugated = new byte[Cube.FACELET_COUNT];
+        transform(state, symmetry, conjugated);
+        cube.loadState(conjugated);
+    }
+
+    // Simetria que leva o estado do cubo ao representante canônico (a de menor índice, em caso de
+    // empate, quando o próprio estado é simétrico)
+    public static int canonicalSymmetry(Cube cube) {
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        cube.copyStateTo(state);
+        return canonicalSymmetry(state);
+    }
+
+    // Substitui o estado do cubo pelo representante canônico e retorna a simetria usada
+    public static int canonicalize(Cube cube) {
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        cube.copyStateTo(state);
+        int symmetry = canonicalSymmetry(state);
+        if (symmetry != 0) {
+            byte[] canonical = new byte[Cube.FACELET_COUNT];
+            transform(state, symmetry, canonical);
+            cube.loadState(canonical);
+        }
+        return symmetry;
+    }
+
+    // Hash de Zobrist do representante canônico: igual para todos os estados da mesma classe
+    public static long canonicalHash(Cube cube) {
+        byte[] state = new byte[Cube.FACELET_COUNT];
+        cube.copyStateTo(state);
+        byte[] canonical = new byte[Cube.FACELET_COUNT];
+        transform(state, canonicalSymmetry(state), canonical);
+        return Zobrist.hash(canonical);
+    }
+
+    // Simetria (uma das 24 rotações) equivalente a uma rotação do cubo inteiro x, y ou z
+    static int of(Move rotation) {
+        int symmetry = ROTATION_OF[rotation.ordinal()];
+        if (symmetry < 0) {
+            throw new IllegalArgumentException("Não é uma rotação do cubo inteiro: " + rotation);
+        }
+        return symmetry;
+    }
+
+    // Tabela "gather" dos facelets da simetria (compartilhada; não deve ser alterada)
+    static int[] facelets(int symmetry) {
+        return FACELET[symmetry];
+    }
+
+    static void transform(byte[] state, int symmetry, byte[] target) {
+        int[] facelets = FACELET[symmetry];
+        byte[] colors = COLOR[symmetry];
+        for (int i = 0; i < Cube.FACELET_COUNT; i++) {
+            target[i] = colors[state[facelets[i]]];
+        }
+    }
+
+    static int canonicalSymmetry(byte[] state) {
+        int best = 0;
+        for (int s = 1; s < COUNT; s++) {
+            if (compare(state, s, best) < 0) {
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    // Compara os conjugados por duas simetrias sem montá-los, parando na primeira posição diferente
+    private static int compare(byte[] state, int a, int b) {
+        int[] faceletsA = FACELET[a];
+        int[] faceletsB = FACELET[b];
+        byte[] colorsA = COLOR[a];
+        byte[] colorsB = COLOR[b];
+        for (int i = 0; i < Cube.FACELET_COUNT; i++) {
+            int difference = colorsA[state[faceletsA[i]]] - colorsB[state[faceletsB[i]]];
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+}
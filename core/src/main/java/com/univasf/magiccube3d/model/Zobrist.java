@@ -0,0 +1,42 @@
+package com.univasf.magiccube3d.model;
+
+import java.util.SplittableRandom;
+
+// Chaves de Zobrist dos facelets: um número aleatório de 64 bits para cada par (posição, cor).
+// O hash de um estado é o XOR das chaves de todas as posições; quando um movimento troca a cor de
+// uma posição, basta desfazer o XOR da cor antiga e aplicar o da nova.
+//
+// As chaves são geradas a partir de uma semente fixa, portanto o hash de um estado é o mesmo em
+// todas as execuções (pode ser gravado em arquivos e comparado entre processos).
+public final class Zobrist {
+
+    private static final long SEED = 0x4D61676963437562L; // "MagicCub"
+    private static final int COLOR_COUNT = FaceType.values().length;
+
+    // Chave de cada posição e cor, indexada por posição * 6 + cor
+    private static final long[] KEYS = new long[Cube.FACELET_COUNT * COLOR_COUNT];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < KEYS.length; i++) {
+            KEYS[i] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    // Chave da cor "color" na posição "index"
+    public static long key(int index, int color) {
+        return KEYS[index * COLOR_COUNT + color];
+    }
+
+    // Hash completo de um vetor de índices de cor
+    public static long hash(byte[] state) {
+        long hash = 0;
+        for (int i = 0; i < Cube.FACELET_COUNT; i++) {
+            hash ^= key(i, state[i]);
+        }
+        return hash;
+    }
+}
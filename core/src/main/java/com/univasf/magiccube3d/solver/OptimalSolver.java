@@ -0,0 +1,325 @@
+package com.univasf.magiccube3d.solver;
+
+import com.univasf.magiccube3d.model.Cube;
+import com.univasf.magiccube3d.model.CubieCube;
+import com.univasf.magiccube3d.model.EdgePattern;
+import com.univasf.magiccube3d.model.Move;
+import com.univasf.magiccube3d.model.MoveTables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Solver ótimo no estilo de Korf: IDA* guiado por três "pattern databases" — os 8 cantos
+ * (permutação e orientação) e dois grupos de 6 arestas (posição e orientação). A heurística é o
+ * máximo das três distâncias, portanto admissível, e a primeira solução encontrada tem o menor
+ * número possível de movimentos (métrica de meia volta).
+ * <p>
+ * Os primeiros níveis da árvore de busca são divididos em tarefas de um {@link ForkJoinPool};
+ * cada tarefa percorre sua subárvore sequencialmente e o roubo de trabalho equilibra as
+ * subárvores de tamanhos diferentes. As tabelas (cerca de 90 MB) são geradas na primeira
+ * utilização, gravadas no {@link PruningTableStore} e compartilhadas entre todas as instâncias.
+ * </p>
+ *
+ * <pre>
+ * OptimalSolver.Result result = new OptimalSolver().solve(cube);
+ * System.out.printf("%s (%.0f nós/s)%n", result.moves(), result.nodesPerSecond());
+ * </pre>
+ */
+public class OptimalSolver {
+
+    /** Comprimento máximo padrão: toda posição do cubo pode ser resolvida em até 20 movimentos. */
+    public static final int DEFAULT_MAX_LENGTH = 20;
+
+    private static final int N_MOVES = Move.FACE_TURN_COUNT;
+
+    // Profundidade até a qual a árvore é dividida em tarefas (18 + 18 * 15 subárvores)
+    private static final int SPLIT_DEPTH = 2;
+
+    // Primeira aresta de cada grupo de arestas
+    private static final int FIRST_GROUP = 0;
+    private static final int SECOND_GROUP = EdgePattern.GROUP_SIZE;
+
+    private static final int[] ALL_MOVES = new int[N_MOVES];
+
+    static {
+        for (int m = 0; m < N_MOVES; m++) {
+            ALL_MOVES[m] = m;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int maxLength;
+
+    /** Cria um solver que usa o pool comum e o comprimento máximo padrão. */
+    public OptimalSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Cria um solver que executa a busca no pool informado.
+     *
+     * @param pool      pool onde as subárvores da busca são executadas
+     * @param maxLength comprimento máximo das soluções
+     */
+    public OptimalSolver(ForkJoinPool pool, int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Comprimento máximo inválido: " + maxLength);
+        }
+        this.pool = pool;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Gera antecipadamente as tabelas de padrões, para que a primeira resolução não pague o custo
+     * de inicialização.
+     */
+    public static void initialize() {
+        Tables.touch();
+    }
+
+    /**
+     * Resolve um cubo de facelets com o menor número de movimentos. Os movimentos retornados
+     * podem ser aplicados diretamente ao cubo com {@link Cube#apply(Move)}.
+     *
+     * @param cube cubo a resolver (não é modificado)
+     * @return solução ótima e estatísticas da busca
+     * @throws IllegalArgumentException se o estado não puder ser resolvido
+     * @throws IllegalStateException    se não houver solução dentro do comprimento máximo
+     */
+    public Result solve(Cube cube) {
+        Result result = solve(CubieCube.fromCube(cube));
+        return new Result(TwoPhaseSolver.toPhysicalFaces(cube, result.moves()), result.nodes(),
+                result.elapsedNanos());
+    }
+
+    /**
+     * Resolve um cubo no nível das peças com o menor número de movimentos.
+     *
+     * @param cube cubo a resolver (não é modificado)
+     * @return solução ótima e estatísticas da busca
+     * @throws IllegalArgumentException se o estado não puder ser resolvido
+     * @throws IllegalStateException    se não houver solução dentro do comprimento máximo
+     */
+    public Result solve(CubieCube cube) {
+        if (!cube.isSolvable()) {
+            throw new IllegalArgumentException("Estado do cubo não pode ser resolvido");
+        }
+        Tables.touch();
+        long start = System.nanoTime();
+        int[] slots = new int[CubieCube.EDGE_COUNT];
+        EdgePattern.slotsOf(cube, slots);
+        int cornerPermutation = cube.getCornerPermutation(), twist = cube.getTwist();
+        LongAdder nodes = new LongAdder();
+        for (int bound = heuristic(cornerPermutation, twist, slots); bound <= maxLength; bound++) {
+            Search search = new Search(bound, nodes);
+            pool.invoke(new SearchTask(search, new int[0], cornerPermutation, twist, slots, -1));
+            int[] found = search.solution.get();
+            if (found != null) {
+                Move[] all = Move.values();
+                List<Move> moves = new ArrayList<>(found.length);
+                for (int move : found) {
+                    moves.add(all[move]);
+                }
+                return new Result(moves, nodes.sum(), System.nanoTime() - start);
+            }
+        }
+        throw new IllegalStateException("Nenhuma solução com até " + maxLength + " movimentos");
+    }
+
+    private static int cornerHeuristic(int cornerPermutation, int twist) {
+        return Tables.CORNERS.get(cornerPermutation * CubieCube.TWIST_COUNT + twist);
+    }
+
+    private static int edgeHeuristic(int[] slots) {
+        return Math.max(Tables.FIRST_EDGES.get(EdgePattern.encode(slots, FIRST_GROUP)),
+                Tables.SECOND_EDGES.get(EdgePattern.encode(slots, SECOND_GROUP)));
+    }
+
+    private static int heuristic(int cornerPermutation, int twist, int[] slots) {
+        return Math.max(cornerHeuristic(cornerPermutation, twist), edgeHeuristic(slots));
+    }
+
+    // Mesma regra do solver de duas fases: nunca a mesma face seguida e, para faces opostas,
+    // apenas uma das ordens
+    private static boolean allowed(int face, int lastFace) {
+        return lastFace < 0 || (face != lastFace && face != lastFace - 3);
+    }
+
+    private static void moveSlots(int[] from, int[] to, int move) {
+        for (int edge = 0; edge < CubieCube.EDGE_COUNT; edge++) {
+            to[edge] = EdgePattern.slotMove(from[edge], move);
+        }
+    }
+
+    // Gera a tabela de um grupo de arestas. Fica fora de Tables porque as threads da geração
+    // paralela executam este código enquanto Tables ainda está sendo inicializada
+    private static PruningTable edges(int first, PruningTable.Progress progress) {
+        return PruningTable.build(EdgePattern.COUNT, EdgePattern.solvedIndex(first), N_MOVES, () -> {
+            // Vetores auxiliares próprios de cada bloco de trabalho
+            int[] slots = new int[CubieCube.EDGE_COUNT];
+            int[] moved = new int[CubieCube.EDGE_COUNT];
+            return (index, neighbors) -> {
+                EdgePattern.decode(index, slots, first);
+                for (int move = 0; move < N_MOVES; move++) {
+                    for (int i = first; i < first + EdgePattern.GROUP_SIZE; i++) {
+                        moved[i] = EdgePattern.slotMove(slots[i], move);
+                    }
+                    neighbors[move] = EdgePattern.encode(moved, first);
+                }
+            };
+        }, progress);
+    }
+
+    /**
+     * Solução ótima e estatísticas da busca que a encontrou.
+     *
+     * @param moves        movimentos da solução
+     * @param nodes        quantidade de nós gerados em todas as iterações
+     * @param elapsedNanos tempo total da busca, em nanossegundos
+     */
+    public record Result(List<Move> moves, long nodes, long elapsedNanos) {
+
+        /**
+         * Retorna a taxa de nós gerados por segundo.
+         *
+         * @return nós por segundo
+         */
+        public double nodesPerSecond() {
+            return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+        }
+    }
+
+    // Estado compartilhado por todas as tarefas de uma iteração do IDA*
+    private static final class Search {
+        final int bound;
+        final LongAdder nodes;
+        final AtomicReference<int[]> solution = new AtomicReference<>();
+
+        Search(int bound, LongAdder nodes) {
+            this.bound = bound;
+            this.nodes = nodes;
+        }
+    }
+
+    // Subárvore da busca a partir de um prefixo de movimentos já aplicado
+    @SuppressWarnings("serial") // Nunca é serializada; o Search compartilhado não é Serializable
+    private static final class SearchTask extends RecursiveAction {
+        private final Search search;
+        private final int[] prefix;
+        private final int cornerPermutation;
+        private final int twist;
+        private final int[] slots;
+        private final int lastFace;
+
+        // Usados apenas na busca sequencial
+        private int[] path;
+        private int[][] slotStack;
+        private long nodes;
+
+        SearchTask(Search search, int[] prefix, int cornerPermutation, int twist, int[] slots, int lastFace) {
+            this.search = search;
+            this.prefix = prefix;
+            this.cornerPermutation = cornerPermutation;
+            this.twist = twist;
+            this.slots = slots;
+            this.lastFace = lastFace;
+        }
+
+        @Override
+        protected void compute() {
+            int depth = prefix.length;
+            if (depth < SPLIT_DEPTH && depth < search.bound) {
+                split(depth);
+                return;
+            }
+            path = new int[search.bound];
+            System.arraycopy(prefix, 0, path, 0, depth);
+            slotStack = new int[search.bound + 1][CubieCube.EDGE_COUNT];
+            System.arraycopy(slots, 0, slotStack[depth], 0, CubieCube.EDGE_COUNT);
+            search(depth, search.bound - depth, cornerPermutation, twist, lastFace);
+            search.nodes.add(nodes);
+        }
+
+        // Cria uma tarefa para cada filho que passa na poda
+        private void split(int depth) {
+            int togo = search.bound - depth;
+            List<SearchTask> children = new ArrayList<>(N_MOVES);
+            for (int move = 0; move < N_MOVES; move++) {
+                int face = move / 3;
+                if (!allowed(face, lastFace)) {
+                    continue;
+                }
+                int newCorner = MoveTables.cornerPermutationMove(cornerPermutation, move);
+                int newTwist = MoveTables.twistMove(twist, move);
+                int[] newSlots = new int[CubieCube.EDGE_COUNT];
+                moveSlots(slots, newSlots, move);
+                if (heuristic(newCorner, newTwist, newSlots) >= togo) {
+                    continue;
+                }
+                int[] newPrefix = new int[depth + 1];
+                System.arraycopy(prefix, 0, newPrefix, 0, depth);
+                newPrefix[depth] = move;
+                children.add(new SearchTask(search, newPrefix, newCorner, newTwist, newSlots, face));
+            }
+            search.nodes.add(children.size());
+            invokeAll(children);
+        }
+
+        private boolean search(int depth, int togo, int cornerPermutation, int twist, int lastFace) {
+            if (togo == 0) {
+                // Heurística zero nas três tabelas: todas as peças estão no lugar
+                search.solution.compareAndSet(null, path.clone());
+                return true;
+            }
+            if (search.solution.get() != null) {
+                return true; // Outra tarefa já encontrou uma solução desta profundidade
+            }
+            int[] current = slotStack[depth], next = slotStack[depth + 1];
+            for (int move = 0; move < N_MOVES; move++) {
+                int face = move / 3;
+                if (!allowed(face, lastFace)) {
+                    continue;
+                }
+                nodes++;
+                int newCorner = MoveTables.cornerPermutationMove(cornerPermutation, move);
+                int newTwist = MoveTables.twistMove(twist, move);
+                if (cornerHeuristic(newCorner, newTwist) >= togo) {
+                    continue;
+                }
+                moveSlots(current, next, move);
+                if (edgeHeuristic(next) >= togo) {
+                    continue;
+                }
+                path[depth] = move;
+                if (search(depth + 1, togo - 1, newCorner, newTwist, face)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Tabelas de padrões, carregadas do cache (ou geradas) na primeira utilização
+    private static final class Tables {
+        // Versão das tabelas deste solver no cache; incrementar quando a geração mudar
+        static final int VERSION = 1;
+
+        static final PruningTable CORNERS = PruningTableStore.defaultStore().get("corners", VERSION,
+                CubieCube.CORNER_PERMUTATION_COUNT * CubieCube.TWIST_COUNT,
+                progress -> PruningTable.build(CubieCube.CORNER_PERMUTATION_COUNT, CubieCube.TWIST_COUNT,
+                        MoveTables::cornerPermutationMove, MoveTables::twistMove, ALL_MOVES, progress));
+        static final PruningTable FIRST_EDGES = PruningTableStore.defaultStore().get("edges-first", VERSION,
+                EdgePattern.COUNT, progress -> edges(FIRST_GROUP, progress));
+        static final PruningTable SECOND_EDGES = PruningTableStore.defaultStore().get("edges-second", VERSION,
+                EdgePattern.COUNT, progress -> edges(SECOND_GROUP, progress));
+
+        static void touch() {
+            // Carregar a classe gera as tabelas
+        }
+    }
+}
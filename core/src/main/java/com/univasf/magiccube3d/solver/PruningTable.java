@@ -0,0 +1,257 @@
+package com.univasf.magiccube3d.solver;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Tabela de poda: para cada estado de um par de coordenadas, guarda a distância mínima (em
+ * movimentos) até o estado resolvido desse par. É usada como heurística admissível na busca.
+ * <p>
+ * Os valores são armazenados com 4 bits por entrada; {@link #EMPTY} indica estado ainda não
+ * alcançado durante a geração. O armazenamento é um {@link ByteBuffer}, que pode estar fora da
+ * heap (tabela recém-gerada) ou mapeado de um arquivo por {@link PruningTableStore}.
+ * </p>
+ * <p>
+ * A geração é uma busca em largura em que cada nível é expandido em paralelo no pool comum:
+ * o intervalo de estados é dividido em blocos e as entradas são preenchidas com
+ * compare-and-set sobre palavras de 32 bits (8 entradas), sem travas.
+ * </p>
+ */
+public final class PruningTable {
+
+    /** Valor de entrada ainda não preenchida. */
+    public static final int EMPTY = 0xF;
+
+    // Entradas por bloco de trabalho da geração paralela (múltiplo de 8, uma palavra de 32 bits)
+    private static final int CHUNK = 1 << 16;
+
+    // Acesso atômico a palavras de 32 bits do armazenamento (entrada i nos bits 4 * (i % 8))
+    private static final VarHandle WORD = MethodHandles.byteBufferViewVarHandle(int[].class,
+            ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer data;
+    private final int size;
+
+    /**
+     * Cria uma tabela com todas as entradas vazias.
+     *
+     * @param size quantidade de entradas
+     */
+    public PruningTable(int size) {
+        // Arredondado para palavras inteiras, para que o compare-and-set nunca passe do fim
+        this(size, ByteBuffer.allocateDirect((byteLength(size) + 3) & ~3));
+        while (data.hasRemaining()) {
+            data.put((byte) 0xFF);
+        }
+        data.clear();
+    }
+
+    // Tabela sobre um armazenamento já preenchido (por exemplo, um arquivo mapeado)
+    PruningTable(int size, ByteBuffer data) {
+        if (data.capacity() < byteLength(size)) {
+            throw new IllegalArgumentException("Tamanho de tabela inválido: " + data.capacity() + " bytes");
+        }
+        this.size = size;
+        this.data = data;
+    }
+
+    // Quantidade de bytes ocupados por uma tabela de "size" entradas
+    static int byteLength(int size) {
+        return (int) ((size + 1L) / 2);
+    }
+
+    /**
+     * Retorna a distância armazenada para o estado informado.
+     *
+     * @param index índice do estado
+     * @return distância (0..14) ou {@link #EMPTY}
+     */
+    public int get(int index) {
+        return (data.get(index >> 1) >> ((index & 1) << 2)) & 0xF;
+    }
+
+    /**
+     * Define a distância de um estado. Não é atômico: use apenas fora da geração paralela.
+     *
+     * @param index índice do estado
+     * @param value distância (0..15)
+     */
+    public void set(int index, int value) {
+        int shift = (index & 1) << 2;
+        data.put(index >> 1, (byte) ((data.get(index >> 1) & ~(0xF << shift)) | (value << shift)));
+    }
+
+    // Preenche uma entrada vazia com compare-and-set; retorna false se ela já estava preenchida
+    private boolean claim(int index, int value) {
+        int offset = (index >> 3) << 2;
+        int shift = (index & 7) << 2;
+        while (true) {
+            int word = (int) WORD.getVolatile(data, offset);
+            if (((word >>> shift) & 0xF) != EMPTY) {
+                return false;
+            }
+            int updated = (word & ~(0xF << shift)) | (value << shift);
+            if (WORD.compareAndSet(data, offset, word, updated)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Retorna a quantidade de entradas da tabela.
+     *
+     * @return quantidade de entradas
+     */
+    public int size() {
+        return size;
+    }
+
+    // Visão somente leitura do armazenamento (do primeiro ao último byte)
+    ByteBuffer data() {
+        ByteBuffer view = data.asReadOnlyBuffer();
+        view.clear().limit(byteLength(size));
+        return view;
+    }
+
+    /**
+     * Gera a tabela de poda de um par de coordenadas por busca em largura a partir do estado
+     * resolvido (as duas coordenadas iguais a zero). O índice de cada estado é
+     * {@code primeira * secondSize + segunda}.
+     *
+     * @param firstSize  quantidade de valores da primeira coordenada
+     * @param secondSize quantidade de valores da segunda coordenada
+     * @param firstMove  tabela de movimento da primeira coordenada (coordenada, movimento)
+     * @param secondMove tabela de movimento da segunda coordenada (coordenada, movimento)
+     * @param moves      movimentos (ordinais de Move) permitidos na busca, fechados por inversão
+     * @param progress   recebe a contagem de estados de cada profundidade
+     * @return tabela preenchida
+     */
+    public static PruningTable build(int firstSize, int secondSize, IntBinaryOperator firstMove,
+            IntBinaryOperator secondMove, int[] moves, Progress progress) {
+        Expansion expansion = (index, neighbors) -> {
+            int first = index / secondSize, second = index % secondSize;
+            for (int i = 0; i < moves.length; i++) {
+                neighbors[i] = firstMove.applyAsInt(first, moves[i]) * secondSize
+                        + secondMove.applyAsInt(second, moves[i]);
+            }
+        };
+        return build(firstSize * secondSize, 0, moves.length, () -> expansion, progress);
+    }
+
+    /**
+     * Gera uma tabela de poda por busca em largura a partir de um estado inicial qualquer,
+     * expandindo cada nível em paralelo.
+     * <p>
+     * Enquanto a fronteira é pequena, cada estado do nível atual marca seus vizinhos vazios
+     * (busca para frente). Quando restam menos estados vazios do que estados na fronteira, cada
+     * estado vazio procura um vizinho no nível atual (busca para trás), o que exige que o conjunto
+     * de movimentos seja fechado por inversão.
+     * </p>
+     *
+     * @param size       quantidade de estados
+     * @param start      índice do estado resolvido
+     * @param moveCount  quantidade de vizinhos de cada estado
+     * @param expansions cria uma função de vizinhos por bloco de trabalho (cada uma é usada por uma
+     *                   única thread e pode manter vetores auxiliares)
+     * @param progress   recebe a contagem de estados de cada profundidade
+     * @return tabela preenchida
+     */
+    public static PruningTable build(int size, int start, int moveCount, Supplier<Expansion> expansions,
+            Progress progress) {
+        PruningTable table = new PruningTable(size);
+        table.set(start, 0);
+        long filled = 1, frontier = 1;
+        progress.depthCompleted(0, frontier, filled, size);
+        int chunks = (int) ((size + (long) CHUNK - 1) / CHUNK);
+        for (int depth = 0; filled < size && frontier > 0; depth++) {
+            int current = depth;
+            boolean backward = size - filled < frontier;
+            frontier = IntStream.range(0, chunks).parallel()
+                    .mapToLong(chunk -> table.expand(chunk, current, backward, expansions.get(), moveCount))
+                    .sum();
+            filled += frontier;
+            if (frontier > 0) {
+                progress.depthCompleted(depth + 1, frontier, filled, size);
+            }
+            // Se a fronteira ficou vazia, os estados restantes são inalcançáveis
+        }
+        return table;
+    }
+
+    // Expande um bloco de estados da profundidade "depth"; retorna quantos estados foram preenchidos
+    private long expand(int chunk, int depth, boolean backward, Expansion expansion, int moveCount) {
+        int[] neighbors = new int[moveCount];
+        int from = chunk * CHUNK, to = (int) Math.min(size, (long) from + CHUNK);
+        long count = 0;
+        for (int index = from; index < to; index++) {
+            int value = get(index);
+            if (backward) {
+                if (value != EMPTY) {
+                    continue;
+                }
+                expansion.neighbors(index, neighbors);
+                for (int next : neighbors) {
+                    if (get(next) == depth) {
+                        if (claim(index, depth + 1)) {
+                            count++;
+                        }
+                        break;
+                    }
+                }
+            } else {
+                if (value != depth) {
+                    continue;
+                }
+                expansion.neighbors(index, neighbors);
+                for (int next : neighbors) {
+                    if (get(next) == EMPTY && claim(next, depth + 1)) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Calcula os estados vizinhos de um estado durante a geração de uma tabela.
+     */
+    @FunctionalInterface
+    public interface Expansion {
+
+        /**
+         * Preenche {@code neighbors} com os índices alcançados a partir de {@code index}, um por
+         * movimento.
+         *
+         * @param index     estado de origem
+         * @param neighbors vetor de saída, com uma posição por movimento
+         */
+        void neighbors(int index, int[] neighbors);
+    }
+
+    /**
+     * Acompanha a geração de uma tabela, nível a nível.
+     */
+    @FunctionalInterface
+    public interface Progress {
+
+        /** Ignora o progresso. */
+        Progress NONE = (depth, count, filled, size) -> {
+        };
+
+        /**
+         * Chamado ao fim de cada nível da busca em largura.
+         *
+         * @param depth  profundidade concluída
+         * @param count  estados encontrados nessa profundidade
+         * @param filled estados preenchidos até agora
+         * @param size   quantidade total de estados
+         */
+        void depthCompleted(int depth, long count, long filled, long size);
+    }
+}
@@ -0,0 +1,252 @@
+package com.univasf.magiccube3d.solver;
+
+import com.univasf.magiccube3d.log.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Armazenamento de tabelas de poda em arquivos de cache locais.
+ * <p>
+ * Cada tabela é gerada na primeira vez em que é pedida e gravada em {@code <nome>.prun} no
+ * diretório do armazenamento; nas execuções seguintes o arquivo é mapeado em memória
+ * ({@link FileChannel#map}) em vez de ser gerado de novo. O cabeçalho guarda a versão do formato,
+ * a versão da tabela, a quantidade de entradas e um CRC32 dos dados: se o cabeçalho ou o tamanho
+ * do arquivo não conferirem, a tabela é considerada obsoleta e é regenerada.
+ * </p>
+ * <p>
+ * O CRC32 é conferido logo depois da gravação. Na carga, conferi-lo exigiria ler a tabela inteira
+ * (dezenas de MB), o que anularia a vantagem do mapeamento: as páginas só são lidas do disco
+ * quando a busca as consulta. A conferência completa na carga pode ser ligada pela propriedade de
+ * sistema {@value #VERIFY_PROPERTY}.
+ * </p>
+ * <p>
+ * O diretório padrão é {@code ~/.magiccube3d/tables} e pode ser alterado pela propriedade de
+ * sistema {@value #DIRECTORY_PROPERTY}. Se o cache não puder ser lido nem gravado, a tabela
+ * gerada é usada apenas em memória.
+ * </p>
+ */
+public final class PruningTableStore {
+
+    /** Propriedade de sistema com o diretório do cache de tabelas. */
+    public static final String DIRECTORY_PROPERTY = "magiccube3d.tables.dir";
+
+    /** Propriedade de sistema que liga a conferência do CRC32 ao carregar cada tabela do cache. */
+    public static final String VERIFY_PROPERTY = "magiccube3d.tables.verify";
+
+    /** Versão do formato dos arquivos; alterá-la invalida todos os arquivos existentes. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x4D433350; // "MC3P"
+    private static final int HEADER_SIZE = 32;
+    private static final String EXTENSION = ".prun";
+
+    private static final boolean VERIFY_ON_LOAD = Boolean.getBoolean(VERIFY_PROPERTY);
+
+    private static volatile PruningTableStore defaultStore;
+
+    private final Path directory;
+
+    // Uma tarefa por nome: a primeira thread que pede a tabela a carrega (ou gera), e as demais
+    // esperam pelo mesmo resultado sem ocupar o mapa durante a geração
+    private final ConcurrentMap<String, CompletableFuture<PruningTable>> loaded = new ConcurrentHashMap<>();
+
+    /**
+     * Cria um armazenamento no diretório informado (criado quando necessário).
+     *
+     * @param directory diretório dos arquivos de cache
+     */
+    public PruningTableStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Retorna o armazenamento padrão, no diretório da propriedade {@value #DIRECTORY_PROPERTY} ou em
+     * {@code ~/.magiccube3d/tables}.
+     *
+     * @return armazenamento compartilhado pelos solvers
+     */
+    public static PruningTableStore defaultStore() {
+        PruningTableStore store = defaultStore;
+        if (store == null) {
+            synchronized (PruningTableStore.class) {
+                store = defaultStore;
+                if (store == null) {
+                    String configured = System.getProperty(DIRECTORY_PROPERTY);
+                    Path directory = configured != null && !configured.isBlank()
+                            ? Path.of(configured)
+                            : Path.of(System.getProperty("user.home"), ".magiccube3d", "tables");
+                    store = defaultStore = new PruningTableStore(directory);
+                }
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Retorna o diretório dos arquivos de cache.
+     *
+     * @return diretório do armazenamento
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Retorna uma tabela, mapeando o arquivo de cache quando ele é válido ou gerando (e gravando)
+     * a tabela caso contrário. Chamadas repetidas com o mesmo nome retornam a mesma instância;
+     * chamadas simultâneas esperam pela mesma geração, e tabelas diferentes podem ser geradas em
+     * paralelo. Se a geração falhar, a próxima chamada tenta novamente.
+     *
+     * @param name      nome da tabela (também o nome do arquivo)
+     * @param version   versão da tabela; deve ser incrementada quando a geração mudar
+     * @param size      quantidade de entradas esperada
+     * @param generator gera a tabela quando o cache está ausente ou obsoleto, informando o
+     *                  progresso de cada nível da geração
+     * @return tabela pronta para consulta
+     */
+    public PruningTable get(String name, int version, int size,
+            Function<PruningTable.Progress, PruningTable> generator) {
+        CompletableFuture<PruningTable> future = loaded.get(name);
+        if (future == null) {
+            CompletableFuture<PruningTable> created = new CompletableFuture<>();
+            future = loaded.putIfAbsent(name, created);
+            if (future == null) {
+                try {
+                    PruningTable table = load(name, version, size, generator);
+                    created.complete(table);
+                    return table;
+                } catch (RuntimeException | Error e) {
+                    loaded.remove(name, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Repassa às threads que esperavam o mesmo erro da thread que gerava a tabela
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private PruningTable load(String name, int version, int size,
+            Function<PruningTable.Progress, PruningTable> generator) {
+        Path file = directory.resolve(name + EXTENSION);
+        if (Files.isRegularFile(file)) {
+            try {
+                PruningTable table = map(file, version, size, VERIFY_ON_LOAD);
+                if (table != null) {
+                    return table;
+                }
+                Log.warn("Tabela de poda obsoleta, gerando novamente: " + file);
+            } catch (IOException e) {
+                Log.warn("Erro ao ler a tabela de poda " + file + ": " + e.getMessage());
+            }
+        }
+        Log.info("Gerando tabela de poda " + name + " (" + size + " estados)...");
+        long start = System.nanoTime();
+        PruningTable table = generator.apply((depth, count, filled, total) -> Log.info(String.format(
+                "  %s: profundidade %2d, %d estados (%.1f%%)", name, depth, count, 100.0 * filled / total)));
+        Log.info(String.format("Tabela de poda %s gerada em %.1f s", name, (System.nanoTime() - start) / 1e9));
+        if (table.size() != size) {
+            throw new IllegalStateException("Tabela " + name + " gerada com " + table.size()
+                    + " entradas, esperado " + size);
+        }
+        try {
+            write(file, version, table);
+            PruningTable mapped = map(file, version, size, true); // Confere o que foi gravado
+            if (mapped != null) {
+                return mapped;
+            }
+            Log.warn("Tabela de poda gravada não confere, usando a cópia em memória: " + file);
+        } catch (IOException e) {
+            Log.warn("Erro ao gravar a tabela de poda " + file + ": " + e.getMessage());
+        }
+        return table;
+    }
+
+    // Mapeia o arquivo e confere o cabeçalho, o tamanho e, se pedido, o checksum dos dados; retorna
+    // null se o arquivo for obsoleto
+    private static PruningTable map(Path file, int version, int size, boolean verify) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = PruningTable.byteLength(size);
+            if (channel.size() != HEADER_SIZE + length) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Lê o cabeçalho completo
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION || header.getInt() != version
+                    || header.getInt() != size) {
+                return null;
+            }
+            long checksum = header.getLong();
+            // O mapeamento continua válido depois que o canal é fechado
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, length);
+            if (verify && checksum(data) != checksum) {
+                return null;
+            }
+            return new PruningTable(size, data);
+        }
+    }
+
+    // Grava em um arquivo temporário e o move para o nome final, para que outro processo nunca
+    // mapeie um arquivo incompleto
+    private void write(Path file, int version, PruningTable table) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            ByteBuffer data = table.data();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(version).putInt(table.size())
+                    .putLong(checksum(data.duplicate()));
+            header.clear();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static long checksum(ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.univasf.magiccube3d.solver;
+
+import com.univasf.magiccube3d.model.CubieCube;
+import com.univasf.magiccube3d.model.Move;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Gerador de embaralhamentos por estado aleatório: sorteia um estado resolvível com distribuição
+ * uniforme ({@link CubieCube#random}) e usa o {@link TwoPhaseSolver} para obter uma sequência
+ * curta de movimentos que leva o cubo resolvido até um estado igualmente uniforme.
+ * <p>
+ * A solução de um estado S é uma sequência X com S·X = resolvido, ou seja, X leva o cubo
+ * resolvido ao estado S<sup>-1</sup>. Como a inversão é uma bijeção, S<sup>-1</sup> também é
+ * uniforme e a própria solução serve como embaralhamento.
+ * </p>
+ * <p>
+ * Com a mesma semente, a mesma sequência de embaralhamentos é produzida. Uma instância não deve
+ * ser compartilhada entre threads; para gerar em paralelo, use uma instância por thread, cada uma
+ * com seu próprio gerador (por exemplo, obtido com {@link SplittableRandom#split()}).
+ * </p>
+ */
+public class Scrambler {
+
+    /** Comprimento mínimo de um embaralhamento: estados a menos de 2 movimentos são descartados. */
+    public static final int MIN_LENGTH = 2;
+
+    private final RandomGenerator random;
+    private final TwoPhaseSolver solver;
+
+    /** Cria um gerador com semente aleatória. */
+    public Scrambler() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Cria um gerador reprodutível.
+     *
+     * @param seed semente do gerador de números aleatórios
+     */
+    public Scrambler(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Cria um gerador que sorteia os estados com o gerador informado.
+     *
+     * @param random gerador de números aleatórios (não precisa ser seguro para threads)
+     */
+    public Scrambler(RandomGenerator random) {
+        this(random, new TwoPhaseSolver());
+    }
+
+    /**
+     * Cria um gerador que usa um solver específico (por exemplo, com outro comprimento máximo).
+     *
+     * @param random gerador de números aleatórios
+     * @param solver solver usado para obter as sequências
+     */
+    public Scrambler(RandomGenerator random, TwoPhaseSolver solver) {
+        this.random = random;
+        this.solver = solver;
+    }
+
+    /**
+     * Gera o próximo embaralhamento.
+     *
+     * @return movimentos que, aplicados ao cubo resolvido, levam a um estado uniformemente aleatório
+     */
+    public List<Move> next() {
+        while (true) {
+            List<Move> scramble = solver.solve(CubieCube.random(random));
+            if (scramble.size() >= MIN_LENGTH) {
+                return scramble;
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.univasf.magiccube3d.solver;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Tabela de transposição de tamanho fixo, sem travas, para associar um valor de 64 bits a estados
+ * já visitados (identificados por uma chave de 64 bits, como o hash de Zobrist de
+ * {@link com.univasf.magiccube3d.model.Cube#getZobristHash()}).
+ * <p>
+ * É uma tabela de endereçamento aberto sobre um único {@code long[]}: cada entrada ocupa duas
+ * posições, {@code chave ^ valor} e {@code valor}. As duas palavras são escritas sem sincronização
+ * entre si; uma leitura só aceita a entrada se {@code (chave ^ valor) ^ valor} reproduzir a chave
+ * procurada, de modo que uma entrada parcialmente escrita por outra thread é simplesmente tratada
+ * como ausente. Várias threads podem consultar e inserir ao mesmo tempo.
+ * </p>
+ * <p>
+ * A tabela é um cache: cada chave pode ocupar uma de {@value #BUCKET_SIZE} posições consecutivas e,
+ * quando todas estão ocupadas, uma delas é substituída. A chave 0 é reservada para entradas vazias.
+ * </p>
+ */
+public final class TranspositionTable {
+
+    /** Quantidade de posições examinadas para cada chave. */
+    public static final int BUCKET_SIZE = 4;
+
+    private static final int MAX_CAPACITY = 1 << 29; // 2 posições por entrada no vetor
+
+    // Acesso atômico (sem rasgar as palavras de 64 bits) às posições do vetor
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] table;
+    private final int mask;
+
+    /**
+     * Cria uma tabela com pelo menos {@code capacity} entradas (arredondado para uma potência de 2).
+     * Cada entrada ocupa 16 bytes.
+     *
+     * @param capacity quantidade mínima de entradas
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacidade inválida: " + capacity);
+        }
+        int entries = Math.max(BUCKET_SIZE, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = new long[entries * 2];
+        this.mask = entries - 1;
+    }
+
+    /**
+     * Retorna a quantidade de entradas da tabela.
+     *
+     * @return capacidade
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Procura o valor associado a uma chave.
+     *
+     * @param key          chave do estado (diferente de 0)
+     * @param defaultValue valor retornado quando a chave não está na tabela
+     * @return valor associado ou {@code defaultValue}
+     */
+    public long get(long key, long defaultValue) {
+        int home = index(key);
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = ((home + i) & mask) << 1;
+            long value = (long) SLOT.getOpaque(table, slot + 1);
+            if (((long) SLOT.getOpaque(table, slot) ^ value) == key) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Indica se a chave está na tabela.
+     *
+     * @param key chave do estado (diferente de 0)
+     * @return {@code true} se a chave foi encontrada
+     */
+    public boolean contains(long key) {
+        int home = index(key);
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = ((home + i) & mask) << 1;
+            if (((long) SLOT.getOpaque(table, slot) ^ (long) SLOT.getOpaque(table, slot + 1)) == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Associa um valor a uma chave, substituindo o valor anterior da mesma chave ou, se todas as
+     * posições da chave estiverem ocupadas por outras, uma delas.
+     *
+     * @param key   chave do estado (diferente de 0)
+     * @param value valor a guardar
+     */
+    public void put(long key, long value) {
+        store(key, value, false);
+    }
+
+    /**
+     * Insere a chave se ela ainda não estiver na tabela, para eliminar estados repetidos em
+     * buscas. Duas threads que inserem a mesma chave ao mesmo tempo podem ambas receber
+     * {@code true}; o custo é apenas repetir o trabalho sobre aquele estado.
+     *
+     * @param key   chave do estado (diferente de 0)
+     * @param value valor a guardar
+     * @return {@code true} se a chave não estava na tabela
+     */
+    public boolean putIfAbsent(long key, long value) {
+        return store(key, value, true);
+    }
+
+    /** Remove todas as entradas (não deve ser chamado enquanto outras threads usam a tabela). */
+    public void clear() {
+        java.util.Arrays.fill(table, 0);
+    }
+
+    private boolean store(long key, long value, boolean onlyIfAbsent) {
+        if (key == 0) {
+            throw new IllegalArgumentException("A chave 0 é reservada");
+        }
+        int home = index(key);
+        int target = -1;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = ((home + i) & mask) << 1;
+            long storedKey = (long) SLOT.getOpaque(table, slot);
+            long storedValue = (long) SLOT.getOpaque(table, slot + 1);
+            if ((storedKey ^ storedValue) == key) {
+                if (onlyIfAbsent) {
+                    return false;
+                }
+                target = slot;
+                break;
+            }
+            if (target < 0 && storedKey == 0 && storedValue == 0) {
+                target = slot; // Primeira posição vazia, usada se a chave não aparecer adiante
+            }
+        }
+        if (target < 0) {
+            // Todas ocupadas por outras chaves: a vítima (0 a 3) é escolhida pelos bits altos da chave
+            target = ((home + (int) (key >>> 62)) & mask) << 1;
+        }
+        SLOT.setOpaque(table, target + 1, value);
+        SLOT.setOpaque(table, target, key ^ value);
+        return true;
+    }
+
+    // Posição inicial da chave (os bits baixos do hash de Zobrist já são uniformes)
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,276 @@
+package com.univasf.magiccube3d.solver;
+
+import com.univasf.magiccube3d.model.Cube;
+import com.univasf.magiccube3d.model.CubieCube;
+import com.univasf.magiccube3d.model.FaceType;
+import com.univasf.magiccube3d.model.Move;
+import com.univasf.magiccube3d.model.MoveTables;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solver de duas fases (algoritmo de Kociemba) sobre as coordenadas do {@link CubieCube}.
+ * <p>
+ * A fase 1 leva o cubo ao subgrupo &lt;U, D, R2, F2, L2, B2&gt; (orientações corretas e arestas
+ * da camada E na camada E); a fase 2 resolve o cubo usando apenas movimentos desse subgrupo.
+ * As duas buscas são IDA* guiadas por tabelas de poda, carregadas do {@link PruningTableStore}
+ * (ou geradas e gravadas nele) uma única vez por processo e compartilhadas entre todas as instâncias.
+ * </p>
+ * <p>
+ * Cada chamada de {@link #solve(Cube)} usa apenas variáveis locais, portanto uma mesma instância
+ * pode atender várias threads ao mesmo tempo.
+ * </p>
+ *
+ * <pre>
+ * List&lt;Move&gt; solution = new TwoPhaseSolver().solve(cube);
+ * solution.forEach(cube::apply);
+ * </pre>
+ */
+public class TwoPhaseSolver {
+
+    /** Comprimento máximo padrão das soluções. */
+    public static final int DEFAULT_MAX_LENGTH = 22;
+
+    private static final int N_MOVES = Move.FACE_TURN_COUNT;
+
+    // Movimentos da fase 2: U, U2, U', R2, F2, D, D2, D', L2, B2
+    private static final int[] PHASE2_MOVES = {
+            Move.U.ordinal(), Move.U2.ordinal(), Move.U_PRIME.ordinal(), Move.R2.ordinal(), Move.F2.ordinal(),
+            Move.D.ordinal(), Move.D2.ordinal(), Move.D_PRIME.ordinal(), Move.L2.ordinal(), Move.B2.ordinal() };
+
+    private static final int[] ALL_MOVES = new int[N_MOVES];
+
+    static {
+        for (int m = 0; m < N_MOVES; m++) {
+            ALL_MOVES[m] = m;
+        }
+    }
+
+    private final int maxLength;
+
+    /** Cria um solver com o comprimento máximo padrão ({@value #DEFAULT_MAX_LENGTH} movimentos). */
+    public TwoPhaseSolver() {
+        this(DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Cria um solver que aceita soluções de até {@code maxLength} movimentos.
+     *
+     * @param maxLength comprimento máximo das soluções (quanto menor, mais lenta a busca)
+     */
+    public TwoPhaseSolver(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Comprimento máximo inválido: " + maxLength);
+        }
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Gera antecipadamente as tabelas de movimento e de poda, para que a primeira resolução não
+     * pague o custo de inicialização.
+     */
+    public static void initialize() {
+        Tables.touch();
+    }
+
+    /**
+     * Resolve um cubo de facelets. Os movimentos retornados são rotações de face e podem ser
+     * aplicados diretamente ao cubo com {@link Cube#apply(Move)}, mesmo que camadas centrais
+     * tenham sido giradas.
+     *
+     * @param cube cubo a resolver (não é modificado)
+     * @return sequência de movimentos que resolve o cubo
+     * @throws IllegalArgumentException se o estado não puder ser resolvido
+     * @throws IllegalStateException    se não houver solução dentro do comprimento máximo
+     */
+    public List<Move> solve(Cube cube) {
+        return toPhysicalFaces(cube, solve(CubieCube.fromCube(cube)));
+    }
+
+    // O CubieCube é lido em relação aos centros; converte cada face lógica (cor do centro) da
+    // solução para a face física onde esse centro está agora no cubo de facelets
+    static List<Move> toPhysicalFaces(Cube cube, List<Move> solution) {
+        FaceType[] faces = FaceType.values();
+        FaceType[] physical = new FaceType[faces.length];
+        for (FaceType face : faces) {
+            physical[cube.getColorIndex(face.ordinal() * 9 + 4)] = face;
+        }
+        List<Move> mapped = new ArrayList<>(solution.size());
+        for (Move move : solution) {
+            mapped.add(Move.of(physical[move.face().ordinal()], move.quarterTurns()));
+        }
+        return mapped;
+    }
+
+    /**
+     * Resolve um cubo no nível das peças.
+     *
+     * @param cube cubo a resolver (não é modificado)
+     * @return sequência de rotações de face que resolve o cubo
+     * @throws IllegalArgumentException se o estado não puder ser resolvido
+     * @throws IllegalStateException    se não houver solução dentro do comprimento máximo
+     */
+    public List<Move> solve(CubieCube cube) {
+        if (!cube.isSolvable()) {
+            throw new IllegalArgumentException("Estado do cubo não pode ser resolvido");
+        }
+        Tables.touch();
+        Search search = new Search(cube, maxLength);
+        int twist = cube.getTwist(), flip = cube.getFlip(), slice = cube.getSlice();
+        for (int depth = phase1Heuristic(twist, flip, slice); depth <= maxLength; depth++) {
+            if (search.phase1(twist, flip, slice, 0, depth, -1)) {
+                return search.solution();
+            }
+        }
+        throw new IllegalStateException("Nenhuma solução com até " + maxLength + " movimentos");
+    }
+
+    private static int phase1Heuristic(int twist, int flip, int slice) {
+        return Math.max(Tables.TWIST_SLICE.get(twist * CubieCube.SLICE_COUNT + slice),
+                Tables.FLIP_SLICE.get(flip * CubieCube.SLICE_COUNT + slice));
+    }
+
+    private static int phase2Heuristic(int cornerPermutation, int udEdgePermutation, int slicePermutation) {
+        return Math.max(
+                Tables.CORNER_SLICE.get(cornerPermutation * CubieCube.SLICE_PERMUTATION_COUNT + slicePermutation),
+                Tables.EDGE_SLICE.get(udEdgePermutation * CubieCube.SLICE_PERMUTATION_COUNT + slicePermutation));
+    }
+
+    // Indica se o movimento pode seguir outro da face "lastFace": nunca a mesma face e, para faces
+    // opostas, apenas em uma ordem (U antes de D, R antes de L, F antes de B)
+    private static boolean allowed(int face, int lastFace) {
+        return lastFace < 0 || (face != lastFace && face != lastFace - 3);
+    }
+
+    // Indica se o movimento pertence ao subgrupo da fase 2
+    private static boolean isPhase2Move(int move) {
+        for (int m : PHASE2_MOVES) {
+            if (m == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Estado de uma busca (uma por chamada de solve)
+    private static final class Search {
+        private final CubieCube start;
+        private final int maxLength;
+        private final int[] moves;
+        private int length;
+
+        Search(CubieCube start, int maxLength) {
+            this.start = start;
+            this.maxLength = maxLength;
+            this.moves = new int[maxLength + 1];
+        }
+
+        boolean phase1(int twist, int flip, int slice, int depth, int togo, int lastFace) {
+            if (togo == 0) {
+                // Soluções da fase 1 terminadas em movimento da fase 2 são redundantes
+                if (depth > 0 && isPhase2Move(moves[depth - 1])) {
+                    return false;
+                }
+                return startPhase2(depth);
+            }
+            for (int move = 0; move < N_MOVES; move++) {
+                int face = move / 3;
+                if (!allowed(face, lastFace)) {
+                    continue;
+                }
+                int newTwist = MoveTables.twistMove(twist, move);
+                int newFlip = MoveTables.flipMove(flip, move);
+                int newSlice = MoveTables.sliceMove(slice, move);
+                if (phase1Heuristic(newTwist, newFlip, newSlice) >= togo) {
+                    continue;
+                }
+                moves[depth] = move;
+                if (phase1(newTwist, newFlip, newSlice, depth + 1, togo - 1, face)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean startPhase2(int depth1) {
+            CubieCube cube = new CubieCube(start);
+            Move[] all = Move.values();
+            for (int i = 0; i < depth1; i++) {
+                cube.apply(all[moves[i]]);
+            }
+            int cornerPermutation = cube.getCornerPermutation();
+            int udEdgePermutation = cube.getUdEdgePermutation();
+            int slicePermutation = cube.getSlicePermutation();
+            int lastFace = depth1 > 0 ? moves[depth1 - 1] / 3 : -1;
+            for (int depth = phase2Heuristic(cornerPermutation, udEdgePermutation, slicePermutation);
+                    depth1 + depth <= maxLength; depth++) {
+                if (phase2(cornerPermutation, udEdgePermutation, slicePermutation, depth1, depth, lastFace)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean phase2(int cornerPermutation, int udEdgePermutation, int slicePermutation, int depth,
+                int togo, int lastFace) {
+            if (togo == 0) {
+                length = depth;
+                return true;
+            }
+            for (int move : PHASE2_MOVES) {
+                int face = move / 3;
+                if (!allowed(face, lastFace)) {
+                    continue;
+                }
+                int newCorner = MoveTables.cornerPermutationMove(cornerPermutation, move);
+                int newEdge = MoveTables.udEdgePermutationMove(udEdgePermutation, move);
+                int newSlice = MoveTables.slicePermutationMove(slicePermutation, move);
+                if (phase2Heuristic(newCorner, newEdge, newSlice) >= togo) {
+                    continue;
+                }
+                moves[depth] = move;
+                if (phase2(newCorner, newEdge, newSlice, depth + 1, togo - 1, face)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<Move> solution() {
+            Move[] all = Move.values();
+            List<Move> result = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                result.add(all[moves[i]]);
+            }
+            return result;
+        }
+    }
+
+    // Tabelas de poda das duas fases, carregadas do cache (ou geradas) na primeira utilização
+    private static final class Tables {
+        // Versão das tabelas deste solver no cache; incrementar quando a geração mudar
+        static final int VERSION = 1;
+
+        static final PruningTable TWIST_SLICE = PruningTableStore.defaultStore().get("twist-slice", VERSION,
+                CubieCube.TWIST_COUNT * CubieCube.SLICE_COUNT,
+                progress -> PruningTable.build(CubieCube.TWIST_COUNT, CubieCube.SLICE_COUNT,
+                        MoveTables::twistMove, MoveTables::sliceMove, ALL_MOVES, progress));
+        static final PruningTable FLIP_SLICE = PruningTableStore.defaultStore().get("flip-slice", VERSION,
+                CubieCube.FLIP_COUNT * CubieCube.SLICE_COUNT,
+                progress -> PruningTable.build(CubieCube.FLIP_COUNT, CubieCube.SLICE_COUNT,
+                        MoveTables::flipMove, MoveTables::sliceMove, ALL_MOVES, progress));
+        static final PruningTable CORNER_SLICE = PruningTableStore.defaultStore().get("corner-slice", VERSION,
+                CubieCube.CORNER_PERMUTATION_COUNT * CubieCube.SLICE_PERMUTATION_COUNT,
+                progress -> PruningTable.build(CubieCube.CORNER_PERMUTATION_COUNT, CubieCube.SLICE_PERMUTATION_COUNT,
+                        MoveTables::cornerPermutationMove, MoveTables::slicePermutationMove, PHASE2_MOVES, progress));
+        static final PruningTable EDGE_SLICE = PruningTableStore.defaultStore().get("edge-slice", VERSION,
+                CubieCube.UD_EDGE_PERMUTATION_COUNT * CubieCube.SLICE_PERMUTATION_COUNT,
+                progress -> PruningTable.build(CubieCube.UD_EDGE_PERMUTATION_COUNT, CubieCube.SLICE_PERMUTATION_COUNT,
+                        MoveTables::udEdgePermutationMove, MoveTables::slicePermutationMove, PHASE2_MOVES, progress));
+
+        static void touch() {
+            // Carregar a classe gera as tabelas
+        }
+    }
+}
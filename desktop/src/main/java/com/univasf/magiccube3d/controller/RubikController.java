@@ -3,11 +3,21 @@
 // Importações de modelos, utilitários e JavaFX
 package com.univasf.magiccube3d.controller;
 
+import com.univasf.magiccube3d.log.Log;
 import com.univasf.magiccube3d.model.Cube;
 import com.univasf.magiccube3d.model.FaceType;
+import com.univasf.magiccube3d.model.Move;
+import com.univasf.magiccube3d.model.MoveJournal;
+import com.univasf.magiccube3d.model.MoveSimplifier;
+import com.univasf.magiccube3d.solver.Scrambler;
+import com.univasf.magiccube3d.solver.TwoPhaseSolver;
 import com.univasf.magiccube3d.util.SoundPlayer;
 import com.univasf.magiccube3d.util.MusicPlayer;
 import com.univasf.magiccube3d.util.AudioConfig;
+import com.univasf.magiccube3d.view.ColorPalette;
+import com.univasf.magiccube3d.view.MaterialCache;
+import com.univasf.magiccube3d.view.MeshCubeRenderer;
+import com.univasf.magiccube3d.view.MoveAnimator;
 
 import javafx.animation.FadeTransition;
 import javafx.animation.TranslateTransition;
@@ -20,10 +30,10 @@ import javafx.scene.SubScene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.PhongMaterial;
 import javafx.scene.shape.Box;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.transform.Rotate;
@@ -31,6 +41,11 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import javafx.animation.AnimationTimer;
+import javafx.concurrent.Task;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 public class RubikController {
 
@@ -99,6 +114,13 @@ public class RubikController {
     // Estado do cubo e elementos auxiliares
     private Cube cube;
 
+    // Histórico dos movimentos aplicados ao cubo (desfazer/refazer com Ctrl+Z / Ctrl+Y)
+    private MoveJournal journal;
+
+    // Solver de duas fases usado pela tecla ENTER
+    private final TwoPhaseSolver solver = new TwoPhaseSolver();
+    private final Scrambler scrambler = new Scrambler();
+
     private AnimationTimer timer; // Timer do JavaFX para atualizar o tempo em tempo real
     private long startTime; // Tempo em que o cronômetro foi iniciado
     private boolean timerRunning; // Boolean que indica se o cronômetro está em execução
@@ -111,6 +133,19 @@ public class RubikController {
     // Variáveis de câmera: define a câmera 3D, a distância em relação ao cubo, seu
     // campo de visão e deslocamento horizontal e vertical
     private PerspectiveCamera camera;
+
+    // Retângulos dos facelets na cena 3D, indexados como no modelo (face * 9 + linha * 3 + coluna)
+    private final Rectangle[] faceletNodes = new Rectangle[Cube.FACELET_COUNT];
+
+    // Anima os giros de camada e mantém a fila de movimentos digitados durante uma animação
+    private MoveAnimator moveAnimator;
+
+    // Com -Dmagiccube3d.renderer=mesh o cubo é desenhado como uma única malha
+    private static final boolean MESH_RENDERER = "mesh".equalsIgnoreCase(System.getProperty("magiccube3d.renderer"));
+    private MeshCubeRenderer meshRenderer;
+
+    // Indica se há uma resolução ou embaralhamento sendo calculado em segundo plano
+    private boolean backgroundBusy;
     private double cameraDistance = -350;
     private double cameraFov = 45;
     private double cameraPanX = 0;
@@ -131,7 +166,9 @@ public class RubikController {
         // layout como o local onde o cubo será exibido
         try {
             cube = new Cube();
+            journal = new MoveJournal(cube);
             SubScene cube3D = createCube3D(cube);
+            cube.addChangeListener(this::onFaceletsChanged);
             cubePane.getChildren().add(cube3D);
             mainPane.setCenter(cubePane);
         } catch (Exception e) {
@@ -233,13 +270,18 @@ public class RubikController {
         slide.setDelay(Duration.millis(300));
         slide.play();
 
-        System.out.println("RubikController inicializado.");
+        Log.debug("RubikController inicializado.");
 
         if (controlsButton != null) {
             // Define a ação do botão "Controles" para abrir a janela com instruções de uso
             controlsButton.setOnAction(_ -> showControlsWindow());
         }
         initTimer(); // Inicializa o cronômetro
+
+        // Gera as tabelas do solver em segundo plano para que a primeira resolução seja imediata
+        Thread solverWarmup = new Thread(TwoPhaseSolver::initialize, "solver-warmup");
+        solverWarmup.setDaemon(true);
+        solverWarmup.start();
     }
 
     // Método que redefine a posição inicial da câmera
@@ -252,7 +294,11 @@ public class RubikController {
         rotateX.setAngle(0);
         rotateY.setAngle(180);
         rotateZ.setAngle(0);
-        updateCube3D(); // Atualiza a visualização 3D com os novos parâmetros da câmera
+        // Aplica os novos parâmetros à câmera existente, sem recriar a cena
+        camera.setFieldOfView(cameraFov);
+        camera.setTranslateZ(cameraDistance);
+        camera.setTranslateX(cameraPanX);
+        camera.setTranslateY(cameraPanY);
     }
 
     // Cria um retângulo colorido para representar uma face do cubo
@@ -307,73 +353,85 @@ public class RubikController {
         }
     }
 
-    // Cria a sub-cena 3D do cubo mágico
+    // Cria a sub-cena 3D do cubo mágico. A cena é montada uma única vez: depois disso os
+    // movimentos apenas trocam a cor dos facelets alterados (onFaceletsChanged) e a câmera só altera
+    // transformações.
     private SubScene createCube3D(Cube cube) {
 
         // Define o grupo que conterá todos os elementos 3D do cubo, tamanho da peça,
         // espaçamento e distância das faces em relação a peça
         Group group = new Group();
+        moveAnimator = new MoveAnimator(group, this::commitMove);
         double size = 30, gap = 2, offset = (size + gap);
         double faceOffset = 0.5;
 
-        // Loop para montar o cubo 3x3x3
-        for (int x = 0; x < 3; x++) {
-            for (int y = 0; y < 3; y++) {
-                for (int z = 0; z < 3; z++) {
-                    // Só desenha peças da borda (não o centro invisível)
-                    if (x == 0 || x == 2 || y == 0 || y == 2 || z == 0 || z == 2) {
-                        Box box = new Box(size, size, size); // Cria uma peça do cubo
-
-                        // Calcula a posição central da peça
-                        double boxCenterX = (x - 1) * offset;
-                        double boxCenterY = (y - 1) * offset;
-                        double boxCenterZ = (z - 1) * offset;
-
-                        box.setTranslateX(boxCenterX);
-                        box.setTranslateY(boxCenterY);
-                        box.setTranslateZ(boxCenterZ);
-                        // Cor base (cinza) da peça
-                        box.setMaterial(new PhongMaterial(javafx.scene.paint.Color.web("7D7D7D")));
-
-                        // Adiciona as faces coloridas de acordo com a posição
-                        if (z == 2) // Face FRONTAL(vermelho)
-                            group.getChildren().add(createFaceRect(
-                                    size,
-                                    cube.getFace(FaceType.FRONT).getFacelet(y, x).getColor(),
-                                    boxCenterX, boxCenterY, boxCenterZ + size / 2 + faceOffset,
-                                    0, null));
-                        if (z == 0) // Face TRASEIRA(laranja)
-                            group.getChildren().add(createFaceRect(
-                                    size,
-                                    cube.getFace(FaceType.BACK).getFacelet(y, 2 - x).getColor(),
-                                    boxCenterX, boxCenterY, boxCenterZ - size / 2 - faceOffset,
-                                    180, new Point3D(0, 1, 0)));
-                        if (y == 0) // Face SUPERIOR(amarelo)
-                            group.getChildren().add(createFaceRect(
-                                    size,
-                                    cube.getFace(FaceType.UP).getFacelet(z, x).getColor(),
-                                    boxCenterX, boxCenterY - size / 2 - faceOffset, boxCenterZ,
-                                    -90, new Point3D(1, 0, 0)));
-                        if (y == 2) // Face INFERIOR(branco)
-                            group.getChildren().add(createFaceRect(
-                                    size,
-                                    cube.getFace(FaceType.DOWN).getFacelet(2 - z, x).getColor(),
-                                    boxCenterX, boxCenterY + size / 2 + faceOffset, boxCenterZ,
-                                    90, new Point3D(1, 0, 0)));
-                        if (x == 2) // Face ESQUERDA(azul)
-                            group.getChildren().add(createFaceRect(
-                                    size,
-                                    cube.getFace(FaceType.LEFT).getFacelet(y, z).getColor(),
-                                    boxCenterX + size / 2 + faceOffset, boxCenterY, boxCenterZ,
-                                    90, new Point3D(0, 1, 0)));
-                        if (x == 0) // Face DIREITA(verde)
-                            group.getChildren().add(createFaceRect(
-                                    size,
-                                    cube.getFace(FaceType.RIGHT).getFacelet(y, 2 - z).getColor(),
-                                    boxCenterX - size / 2 - faceOffset, boxCenterY, boxCenterZ,
-                                    -90, new Point3D(0, 1, 0)));
-                        // Adiciona a peça ao grupo
-                        group.getChildren().add(box);
+        // Renderizador opcional de malha única: um nó para o cubo inteiro em vez de peças e
+        // facelets separados (sem animação dos giros)
+        if (MESH_RENDERER) {
+            meshRenderer = new MeshCubeRenderer(3, offset, size);
+            meshRenderer.setAll(cube::getColorIndex);
+            group.getChildren().add(meshRenderer.getNode());
+        } else {
+            // Loop para montar o cubo 3x3x3
+            for (int x = 0; x < 3; x++) {
+                for (int y = 0; y < 3; y++) {
+                    for (int z = 0; z < 3; z++) {
+                        // Só desenha peças da borda (não o centro invisível)
+                        if (x == 0 || x == 2 || y == 0 || y == 2 || z == 0 || z == 2) {
+                            Box box = new Box(size, size, size); // Cria uma peça do cubo
+
+                            // Calcula a posição central da peça
+                            double boxCenterX = (x - 1) * offset;
+                            double boxCenterY = (y - 1) * offset;
+                            double boxCenterZ = (z - 1) * offset;
+
+                            box.setTranslateX(boxCenterX);
+                            box.setTranslateY(boxCenterY);
+                            box.setTranslateZ(boxCenterZ);
+                            // Cor base (cinza) da peça, com o material compartilhado por todas as peças
+                            box.setMaterial(MaterialCache.body());
+
+                            // Adiciona as faces coloridas de acordo com a posição
+                            if (z == 2) // Face FRONTAL(vermelho)
+                                addFacelet(group, x, y, z, FaceType.FRONT, y * 3 + x, createFaceRect(
+                                        size,
+                                        ColorPalette.colorOf(cube.getFace(FaceType.FRONT).getFacelet(y, x).getColorIndex()),
+                                        boxCenterX, boxCenterY, boxCenterZ + size / 2 + faceOffset,
+                                        0, null));
+                            if (z == 0) // Face TRASEIRA(laranja)
+                                addFacelet(group, x, y, z, FaceType.BACK, y * 3 + 2 - x, createFaceRect(
+                                        size,
+                                        ColorPalette.colorOf(cube.getFace(FaceType.BACK).getFacelet(y, 2 - x).getColorIndex()),
+                                        boxCenterX, boxCenterY, boxCenterZ - size / 2 - faceOffset,
+                                        180, new Point3D(0, 1, 0)));
+                            if (y == 0) // Face SUPERIOR(amarelo)
+                                addFacelet(group, x, y, z, FaceType.UP, z * 3 + x, createFaceRect(
+                                        size,
+                                        ColorPalette.colorOf(cube.getFace(FaceType.UP).getFacelet(z, x).getColorIndex()),
+                                        boxCenterX, boxCenterY - size / 2 - faceOffset, boxCenterZ,
+                                        -90, new Point3D(1, 0, 0)));
+                            if (y == 2) // Face INFERIOR(branco)
+                                addFacelet(group, x, y, z, FaceType.DOWN, (2 - z) * 3 + x, createFaceRect(
+                                        size,
+                                        ColorPalette.colorOf(cube.getFace(FaceType.DOWN).getFacelet(2 - z, x).getColorIndex()),
+                                        boxCenterX, boxCenterY + size / 2 + faceOffset, boxCenterZ,
+                                        90, new Point3D(1, 0, 0)));
+                            if (x == 2) // Face ESQUERDA(azul)
+                                addFacelet(group, x, y, z, FaceType.LEFT, y * 3 + z, createFaceRect(
+                                        size,
+                                        ColorPalette.colorOf(cube.getFace(FaceType.LEFT).getFacelet(y, z).getColorIndex()),
+                                        boxCenterX + size / 2 + faceOffset, boxCenterY, boxCenterZ,
+                                        90, new Point3D(0, 1, 0)));
+                            if (x == 0) // Face DIREITA(verde)
+                                addFacelet(group, x, y, z, FaceType.RIGHT, y * 3 + 2 - z, createFaceRect(
+                                        size,
+                                        ColorPalette.colorOf(cube.getFace(FaceType.RIGHT).getFacelet(y, 2 - z).getColorIndex()),
+                                        boxCenterX - size / 2 - faceOffset, boxCenterY, boxCenterZ,
+                                        -90, new Point3D(0, 1, 0)));
+                            // Adiciona a peça ao grupo
+                            group.getChildren().add(box);
+                            moveAnimator.register(box, x - 1, y - 1, z - 1);
+                        }
                     }
                 }
             }
@@ -458,20 +516,42 @@ public class RubikController {
         return subScene; // Retorna a sub-cena pronta para ser exibida na interface
     }
 
-    // Atualiza a visualização 3D do cubo
-    private void updateCube3D() {
-        try {
-            cubePane.getChildren().clear();
-            cubePane.getChildren().add(createCube3D(cube));
-        } catch (Exception e) {
-            showError("Erro ao atualizar o cubo", e);
+    // Registra o retângulo de um facelet (índice face * 9 + linha * 3 + coluna) e o adiciona ao grupo
+    private void addFacelet(Group group, int x, int y, int z, FaceType face, int position, Rectangle rect) {
+        faceletNodes[face.ordinal() * 9 + position] = rect;
+        group.getChildren().add(rect);
+        moveAnimator.register(rect, x - 1, y - 1, z - 1);
+    }
+
+    // Coloca um movimento na fila de animação; o modelo só é alterado quando o giro termina
+    private void queueMove(Move move) {
+        SoundPlayer.playSound("move.wav");
+        moveAnimator.enqueue(move);
+    }
+
+    // Aplica ao modelo (e ao histórico) um movimento cuja animação terminou
+    private void commitMove(Move move) {
+        journal.apply(move);
+        // Chamado no fim da animação (Timeline), onde showAndWait não é permitido: a verificação,
+        // que pode abrir o alerta de conclusão, roda depois do pulso atual
+        javafx.application.Platform.runLater(this::checkSolved);
+    }
+
+    // Atualiza a visualização 3D do cubo a partir do aviso do modelo: só os facelets cuja cor mudou
+    // são pintados (cerca de 20 por giro de face), e o grafo de cena é mantido
+    private void onFaceletsChanged(Cube source, int[] indices, int[] colors, int count) {
+        if (meshRenderer != null) {
+            meshRenderer.setColors(indices, colors, count); // Só os índices de textura mudam
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            faceletNodes[indices[i]].setFill(ColorPalette.colorOf(colors[i]));
         }
     }
 
-    // Rotação do grupo em torno do eixo Z
+    // Rotação do grupo em torno do eixo Z (apenas a transformação muda)
     private void groupRotateZ(double angleDelta) {
         rotateZ.setAngle(rotateZ.getAngle() + angleDelta);
-        updateCube3D();
     }
 
     // Método para inicializar ícones para todos os botões
@@ -516,8 +596,7 @@ public class RubikController {
             imageView.setFitHeight(60);
             button.setGraphic(imageView);
         } catch (Exception e) {
-            System.err.println("Erro ao carregar ícone: " + iconPath);
-            e.printStackTrace();
+            Log.error("Erro ao carregar ícone: " + iconPath, e);
         }
     }
 
@@ -582,8 +661,7 @@ public class RubikController {
                 alert.showAndWait();
 
             } catch (Exception e) {
-                System.err.println("Erro ao exibir alerta de resolução:");
-                e.printStackTrace();
+                Log.error("Erro ao exibir alerta de resolução:", e);
             }
             resetTimer(); // Reinicia o cronômetro
         }
@@ -607,8 +685,7 @@ public class RubikController {
             controlsStage.getIcons().add(new javafx.scene.image.Image(
                     getClass().getResourceAsStream("/com/univasf/magiccube3d/icons/control_icon.png")));
         } catch (Exception e) {
-            System.err.println("Erro ao carregar ícone da janela de controles");
-            e.printStackTrace();
+            Log.error("Erro ao carregar ícone da janela de controles", e);
         }
         // Layout da janela
         VBox layout = new VBox(10);
@@ -639,6 +716,8 @@ public class RubikController {
                 R: Resetar câmera
                 SPACE: Embaralhar cubo
                 BACKSPACE: Resetar cubo
+                ENTER: Resolver cubo
+                CTRL+Z / CTRL+Y: Desfazer / refazer movimento
                 """;
 
         // Label que exibe a lista de atalhos
@@ -659,17 +738,78 @@ public class RubikController {
             if (cube.isSolved()) {
                 SoundPlayer.playSound("solved.wav");
                 stopTimer(true);
-                cube = new Cube();
+                journal.reset();
             }
         } catch (Exception e) {
             showError("Erro ao verificar resolução do cubo", e);
         }
     }
 
+    // Resolve o cubo com o solver de duas fases em segundo plano e aplica a solução encontrada
+    private void solveCube() {
+        if (backgroundBusy) {
+            return;
+        }
+        moveAnimator.finishAll(); // Resolve a partir do estado com todos os movimentos aplicados
+        Cube snapshot = cube.copy(); // O solver lê a cópia; o cubo continua livre na thread da UI
+        long hash = cube.getZobristHash();
+        runInBackground("Erro ao resolver o cubo", () -> MoveSimplifier.simplify(solver.solve(snapshot)),
+                solution -> {
+                    moveAnimator.finishAll();
+                    if (cube.getZobristHash() != hash) {
+                        // O cubo foi girado enquanto o solver trabalhava: a solução não vale mais
+                        Log.info("Cubo alterado durante a resolução; solução descartada.");
+                        return;
+                    }
+                    Log.info("Solução (" + solution.size() + " movimentos): " + solution);
+                    journal.apply(solution); // Sequência fundida em uma só passada (e desfazível)
+                    SoundPlayer.playSound("move.wav");
+                    checkSolved(); // Para o cronômetro e exibe a mensagem de conclusão
+                });
+    }
+
+    // Executa um cálculo demorado (solver, embaralhador) fora da thread da UI e entrega o resultado
+    // a onDone na thread da UI. Só um cálculo roda por vez; pedidos feitos enquanto isso são
+    // ignorados.
+    private <T> void runInBackground(String errorMessage, Callable<T> work, Consumer<T> onDone) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(_ -> {
+            backgroundBusy = false;
+            try {
+                onDone.accept(task.getValue());
+            } catch (Exception e) {
+                showError(errorMessage, e);
+            }
+        });
+        task.setOnFailed(_ -> {
+            backgroundBusy = false;
+            showError(errorMessage, task.getException());
+        });
+        backgroundBusy = true;
+        Thread thread = new Thread(task, "cube-background");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     // Configura rotação do cubo via teclado numérico
     private void setupKeyboardControls() {
         cubePane.setOnKeyPressed(event -> {
             try {
+                // Ctrl+Z / Ctrl+Y: desfazer e refazer o último movimento
+                if (event.isShortcutDown() && (event.getCode() == KeyCode.Z || event.getCode() == KeyCode.Y)) {
+                    moveAnimator.finishAll();
+                    boolean changed = event.getCode() == KeyCode.Z ? journal.undo() : journal.redo();
+                    if (changed) {
+                        SoundPlayer.playSound("move.wav");
+                        checkSolved();
+                    }
+                    return;
+                }
                 switch (event.getCode()) {
                     // Q, W, E: Up, rotate X center, Down
                     case Q:
@@ -740,6 +880,10 @@ public class RubikController {
                     case BACK_SPACE:
                         resetButton.fire();
                         break;
+                    // Resolver o cubo automaticamente
+                    case ENTER:
+                        solveCube();
+                        break;
                     // MOver a camera com o numpad
                     case NUMPAD8:
                         rotateX.setAngle(rotateX.getAngle() - 10);
@@ -772,8 +916,7 @@ public class RubikController {
                     faceLabel.setText("Face atual: " + face);
                 }
             } catch (Exception e) {
-                System.err.println("Erro ao processar entrada de teclado:");
-                e.printStackTrace();
+                Log.error("Erro ao processar entrada de teclado:", e);
             }
         });
     }
@@ -790,173 +933,113 @@ public class RubikController {
     private void setupButtonActions() {
         // Rotação UP(sentido horário)
         rotateUButton.setOnAction(_ -> {
-            cube.rotateFace("UP", true);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.U);
             cubePane.requestFocus();
         });
         // Rotação UP(sentido anti-horário)
         rotateUPrimeButton.setOnAction(_ -> {
-            cube.rotateFace("UP", false);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.U_PRIME);
             cubePane.requestFocus();
         });
         // Rotação MEIO(horizontal)(sentido horário)
         rotateEButton.setOnAction(_ -> {
-            cube.rotateCenter("X", true);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.E_PRIME);
             cubePane.requestFocus();
         });
         // Rotação MEIO(horizontal)(sentido anti-horário)
         rotateEPrimeButton.setOnAction(_ -> {
-            cube.rotateCenter("X", false); // left/counterclockwise
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.E);
             cubePane.requestFocus();
         });
         // Rotação DOWN(sentido horário)
         rotateDButton.setOnAction(_ -> {
-            cube.rotateFace("DOWN", true); // was false, now true
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.D);
             cubePane.requestFocus();
         });
         // Rotação DOWN(sentido anti-horário)
         rotateDPrimeButton.setOnAction(_ -> {
-            cube.rotateFace("DOWN", false); // was true, now false
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.D_PRIME);
             cubePane.requestFocus();
         });
         // Rotação LEFT(sentido horário)
         rotateLButton.setOnAction(_ -> {
-            cube.rotateFace("LEFT", false);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.L);
             cubePane.requestFocus();
         });
         // Rotação LEFT(sentido anti-horário)
         rotateLPrimeButton.setOnAction(_ -> {
-            cube.rotateFace("LEFT", true);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.L_PRIME);
             cubePane.requestFocus();
         });
         // Rotação MEIO(vertical)(sentido horário)
         rotateMButton.setOnAction(_ -> {
-            cube.rotateCenter("M", true); // right/clockwise
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.M);
             cubePane.requestFocus();
         });
         // Rotação MEIO(vertical)(sentido anti-horário)
         rotateMPrimeButton.setOnAction(_ -> {
-            cube.rotateCenter("M", false); // left/counterclockwise
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.M_PRIME);
             cubePane.requestFocus();
         });
         // Rotação RIGHT(sentido horário)
         rotateRButton.setOnAction(_ -> {
-            cube.rotateFace("RIGHT", false);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.R);
             cubePane.requestFocus();
         });
         // Rotação RIGHT(sentido anti-horário)
         rotateRPrimeButton.setOnAction(_ -> {
-            cube.rotateFace("RIGHT", true);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.R_PRIME);
             cubePane.requestFocus();
         });
         // Rotação FRONT(sentido horário)
         rotateFButton.setOnAction(_ -> {
-            cube.rotateFace("FRONT", true);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.F);
             cubePane.requestFocus();
         });
         // Rotação FRONT(sentido anti-horário)
         rotateFPrimeButton.setOnAction(_ -> {
-            cube.rotateFace("FRONT", false);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.F_PRIME);
             cubePane.requestFocus();
         });
         // Rotação MEIO(horizontal a UP)(sentido horário)
         rotateSButton.setOnAction(_ -> {
-            cube.rotateCenter("S", true);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.S);
             cubePane.requestFocus();
         });
         // Rotação MEIO(horizontal a UP)(sentido anti-horário)
         rotateSPrimeButton.setOnAction(_ -> {
-            cube.rotateCenter("S", false);
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.S_PRIME);
             cubePane.requestFocus();
         });
         // Rotação BACK(sentido horário)
         rotateBButton.setOnAction(_ -> {
-            cube.rotateFace("BACK", true); // right/clockwise
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.B);
             cubePane.requestFocus();
         });
         // Rotação BACK(sentido anti-horário)
         rotateBPrimeButton.setOnAction(_ -> {
-            cube.rotateFace("BACK", false); // left/counterclockwise
-            SoundPlayer.playSound("move.wav");
-            updateCube3D();
-            checkSolved();
+            queueMove(Move.B_PRIME);
             cubePane.requestFocus();
         });
-        // Embaralhar o cubo com movimentos aleatórios
+        // Embaralhar o cubo: sorteia um estado uniformemente aleatório e aplica a sequência que
+        // leva até ele
         shuffleButton.setOnAction(_ -> {
-            // Define as faces possíveis do cubo para rotação
-            String[] faces = { "FRONT", "BACK", "UP", "DOWN", "LEFT", "RIGHT" };
-            java.util.Random rand = new java.util.Random();
-
-            // Executa 20 movimentos aleatórios para embaralhar o cubo
-            for (int i = 0; i < 20; i++) {
-                // 60% de chance de girar uma face, 40% de girar um centro
-                if (rand.nextInt(10) < 6) {
-                    cube.rotateFace(faces[rand.nextInt(faces.length)], rand.nextBoolean());
-                } else {
-                    String[] centers = { "X", "Y" };
-                    cube.rotateCenter(centers[rand.nextInt(centers.length)], rand.nextBoolean());
-                }
+            // O sorteio resolve o estado sorteado com o solver, por isso roda em segundo plano
+            if (!backgroundBusy) {
+                runInBackground("Erro ao embaralhar o cubo", scrambler::next, scramble -> {
+                    moveAnimator.finishAll(); // O embaralhamento vem depois dos giros já pedidos
+                    Log.info("Embaralhamento (" + scramble.size() + " movimentos): " + scramble);
+                    journal.apply(scramble); // Gravado no histórico e aplicado como permutação fundida
+                    SoundPlayer.playSound("mix.wav");
+                });
             }
-            SoundPlayer.playSound("mix.wav");
-            updateCube3D();
             cubePane.requestFocus();
         });
         resetButton.setOnAction(_ -> {
-            // Reseta o cubo para o estado inicial
-            cube = new Cube();
+            // Reseta o cubo para o estado inicial e descarta o histórico (e a fila de animação)
+            moveAnimator.finishAll();
+            journal.reset();
             SoundPlayer.playSound("reset.wav");
-            updateCube3D();
             cubePane.requestFocus();
         });
         // Abre o link do tutorial quando o botão for clicado
@@ -967,9 +1050,8 @@ public class RubikController {
                 java.awt.Desktop.getDesktop().browse(new java.net.URI(
                         "https://youtube.com/playlist?list=PLYjrJH3e_wDO9Myj0dpQAr5TvfhGzrSCb"));
             } catch (Exception e) {
-                // Em caso de erro (URI inválida ou ambiente sem suporte), imprime a exceção no
-                // console
-                e.printStackTrace();
+                // Em caso de erro (URI inválida ou ambiente sem suporte), registra a exceção
+                Log.error("Erro ao abrir o tutorial", e);
             }
             cubePane.requestFocus();
         });
@@ -978,7 +1060,7 @@ public class RubikController {
             if (!isMusicPlaying) {
                 // Se a música não está tocando, seleciona um arquivo aleatório
                 String modFile = getRandomModFile();
-                System.out.println("Arquivo escolhido: " + modFile); // Debug
+                Log.debug("Arquivo escolhido: " + modFile);
 
                 // Se encontrou um arquivo válido, inicia a reprodução
                 if (modFile != null) {
@@ -1006,13 +1088,13 @@ public class RubikController {
                 return modFiles[idx];
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            Log.error("Erro ao listar as músicas", e);
         }
         return null;
     }
 
-    private void showError(String message, Exception e) {
-        e.printStackTrace();
+    private void showError(String message, Throwable e) {
+        Log.error(message, e);
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle("Erro");
         alert.setHeaderText(message);
@@ -1,5 +1,7 @@
 package com.univasf.magiccube3d.util;
 
+import com.univasf.magiccube3d.log.Log;
+
 import java.io.InputStream;
 import java.net.URL;
 import javax.sound.sampled.*;
@@ -58,11 +60,10 @@ public class MusicPlayer {
         currentPlayerThread = new MediaPlayerThread(musicURL);
         currentPlayerThread.start();
       } else {
-        System.err.println("Arquivo de música não encontrado: " + fileName);
+        Log.warn("Arquivo de música não encontrado: " + fileName);
       }
     } catch (Exception e) {
-      System.err.println("Erro ao iniciar a reprodução da música: " + e.getMessage());
-      e.printStackTrace();
+      Log.error("Erro ao iniciar a reprodução da música: " + e.getMessage(), e);
     }
   }
 
@@ -101,7 +102,7 @@ public class MusicPlayer {
           inputStream = musicResourceURL.openStream();
           modPlay3Instance = new ModPlay3(inputStream, false); // Formato padrão
         } catch (IllegalArgumentException e) {
-          System.err.println("Falha ao carregar módulo como formato padrão (" + e.getMessage()
+          Log.warn("Falha ao carregar módulo como formato padrão (" + e.getMessage()
               + "), tentando formato Ultimate Soundtracker.");
           if (inputStream != null) {
             try {
@@ -114,7 +115,7 @@ public class MusicPlayer {
         }
 
         if (modPlay3Instance == null) {
-          System.err.println("Falha ao carregar o módulo com ambos os formatos.");
+          Log.error("Falha ao carregar o módulo com ambos os formatos.");
           return;
         }
 
@@ -122,7 +123,7 @@ public class MusicPlayer {
         DataLine.Info info = new DataLine.Info(SourceDataLine.class, audioFormat);
 
         if (!AudioSystem.isLineSupported(info)) {
-          System.err.println("Linha de áudio não suportada para o formato: " + audioFormat);
+          Log.error("Linha de áudio não suportada para o formato: " + audioFormat);
           return;
         }
 
@@ -146,7 +147,7 @@ public class MusicPlayer {
         while (running) {
           // Verifica se a música terminou para fazer o loop
           if (!modPlay3Instance.getSequencer() && modPlay3Instance.getSongLength() > 0) {
-            System.out.println("Música terminada. Reiniciando (loop)...");
+            Log.debug("Música terminada. Reiniciando (loop)...");
             modPlay3Instance.setSequencePos(0, 0); // Volta para o início
             modPlay3Instance.setSequencer(true); // Reativa o sequencer
             if (sourceDataLine != null) {
@@ -181,15 +182,12 @@ public class MusicPlayer {
           // Se !running, o loop terminará
         }
       } catch (LineUnavailableException e) {
-        System.err.println("Linha de áudio indisponível: " + e.getMessage());
-        e.printStackTrace();
+        Log.error("Linha de áudio indisponível: " + e.getMessage(), e);
       } catch (java.io.IOException e) {
-        System.err.println("Erro de I/O ao ler dados do módulo: " + e.getMessage());
-        e.printStackTrace();
+        Log.error("Erro de I/O ao ler dados do módulo: " + e.getMessage(), e);
       } catch (Exception e) {
         if (running) {
-          System.err.println("Erro durante a reprodução da música: " + e.getMessage());
-          e.printStackTrace();
+          Log.error("Erro durante a reprodução da música: " + e.getMessage(), e);
         }
       } finally {
         if (sourceDataLine != null) {
@@ -1,5 +1,6 @@
 package com.univasf.magiccube3d.util;
 
+import com.univasf.magiccube3d.log.Log;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
@@ -39,11 +40,11 @@ public class SoundPlayer {
                 player.play();
             } else {
                 // Exibe uma mensagem de erro se o arquivo de som não for encontrado
-                System.err.println("Arquivo de som não encontrado: " + fileName);
+                Log.warn("Arquivo de som não encontrado: " + fileName);
             }
         } catch (Exception e) {
-            // Tratamento de exceções: imprime a pilha de erros no console
-            e.printStackTrace();
+            // Tratamento de exceções: registra a pilha de erros
+            Log.error("Erro ao tocar o som " + fileName, e);
         }
     }
 }
@@ -0,0 +1,51 @@
+package com.univasf.magiccube3d.view;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Paleta da visualização: converte os índices de cor do modelo (o ordinal da
+ * {@link com.univasf.magiccube3d.model.FaceType} de origem) nas cores JavaFX exibidas.
+ * O modelo guarda apenas os índices e não depende do JavaFX.
+ */
+public final class ColorPalette {
+
+    private static final Color[] COLORS = {
+            Color.web("FFD600"), // Amarelo - UP
+            Color.web("FFFFFF"), // Branco - DOWN
+            Color.web("E53935"), // Vermelho - FRONT
+            Color.web("FF9800"), // Laranja - BACK
+            Color.web("1E88E5"), // Azul - LEFT
+            Color.web("43A047") // Verde - RIGHT
+    };
+
+    private ColorPalette() {
+    }
+
+    /**
+     * Retorna a cor JavaFX de um índice de cor do modelo.
+     *
+     * @param colorIndex índice de cor (0 a 5)
+     * @return cor exibida
+     */
+    public static Color colorOf(int colorIndex) {
+        if (colorIndex < 0 || colorIndex >= COLORS.length) {
+            throw new IllegalArgumentException("Cor inválida: " + colorIndex);
+        }
+        return COLORS[colorIndex];
+    }
+
+    /**
+     * Retorna o índice de cor do modelo correspondente a uma cor da paleta.
+     *
+     * @param color cor JavaFX
+     * @return índice de cor (0 a 5)
+     */
+    public static int indexOf(Color color) {
+        for (int i = 0; i < COLORS.length; i++) {
+            if (COLORS[i].equals(color)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Cor inválida: " + color);
+    }
+}
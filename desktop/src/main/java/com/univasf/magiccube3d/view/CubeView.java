@@ -1,9 +1,8 @@
 package com.univasf.magiccube3d.view;
 
+import com.univasf.magiccube3d.log.Log;
 import com.univasf.magiccube3d.model.Cube;
 import javafx.scene.Group;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.PhongMaterial;
 import javafx.scene.shape.Box;
 
 /**
@@ -33,7 +32,7 @@ public class CubeView {
                 for (int k = 0; k < 3; k++) {
                     if (isOuterPiece(i, j, k)) {
                         Box piece = new Box(0.9, 0.9, 0.9);
-                        piece.setMaterial(new PhongMaterial(Color.GRAY));
+                        piece.setMaterial(MaterialCache.body());
                         piece.setTranslateX(i - 1);
                         piece.setTranslateY(j - 1);
                         piece.setTranslateZ(k - 1);
@@ -42,7 +41,7 @@ public class CubeView {
                 }
             }
         }
-        System.out.println("Visualização 3D do cubo construída (placeholder).");
+        Log.debug("Visualização 3D do cubo construída (placeholder).");
     }
 
     /**
@@ -71,6 +70,6 @@ public class CubeView {
      * (Implementação placeholder)
      */
     public void updateView() {
-        System.out.println("Visualização do cubo atualizada.");
+        Log.debug("Visualização do cubo atualizada.");
     }
 }
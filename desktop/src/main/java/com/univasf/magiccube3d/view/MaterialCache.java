@@ -0,0 +1,82 @@
+package com.univasf.magiccube3d.view;
+
+import com.univasf.magiccube3d.model.Cube;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.PhongMaterial;
+
+/**
+ * Materiais compartilhados pela visualização 3D.
+ * <p>
+ * Há um único material para o corpo das peças e um com a textura da paleta (usado por
+ * {@link MeshCubeRenderer}). Os facelets da cena de nós são retângulos 2D e compartilham as
+ * instâncias de {@link javafx.scene.paint.Color} de {@link ColorPalette}, não materiais. Todos os
+ * nós usam as mesmas instâncias, inclusive entre cenas reconstruídas e entre vários cubos na tela,
+ * o que evita alocações e reduz as trocas de estado do Prism a cada quadro. Os materiais não devem
+ * ser alterados por quem os usa.
+ * </p>
+ */
+public final class MaterialCache {
+
+    /** Cor do corpo (plástico) das peças. */
+    public static final Color BODY_COLOR = Color.web("7D7D7D");
+
+    /** Posição do corpo na textura da paleta (depois das cores dos facelets). */
+    public static final int BODY_ENTRY = Cube.COLOR_COUNT;
+
+    /** Quantidade de cores na textura da paleta. */
+    public static final int PALETTE_ENTRIES = BODY_ENTRY + 1;
+
+    // Largura de cada cor na textura, em pixels (as coordenadas apontam para o centro do bloco)
+    private static final int TEXEL_WIDTH = 4;
+
+    private static final PhongMaterial BODY = new PhongMaterial(BODY_COLOR);
+    private static final PhongMaterial PALETTE = new PhongMaterial();
+
+    static {
+        WritableImage image = new WritableImage(PALETTE_ENTRIES * TEXEL_WIDTH, TEXEL_WIDTH);
+        PixelWriter writer = image.getPixelWriter();
+        for (int i = 0; i < PALETTE_ENTRIES; i++) {
+            Color color = i == BODY_ENTRY ? BODY_COLOR : ColorPalette.colorOf(i);
+            for (int x = 0; x < TEXEL_WIDTH; x++) {
+                for (int y = 0; y < TEXEL_WIDTH; y++) {
+                    writer.setColor(i * TEXEL_WIDTH + x, y, color);
+                }
+            }
+        }
+        PALETTE.setDiffuseMap(image);
+    }
+
+    private MaterialCache() {
+    }
+
+    /**
+     * Retorna o material do corpo das peças.
+     *
+     * @return material compartilhado
+     */
+    public static PhongMaterial body() {
+        return BODY;
+    }
+
+    /**
+     * Retorna o material cuja textura contém a paleta: a entrada {@code i} ocupa a faixa horizontal
+     * {@code [i, i + 1) / PALETTE_ENTRIES} da imagem.
+     *
+     * @return material compartilhado
+     */
+    public static PhongMaterial palette() {
+        return PALETTE;
+    }
+
+    /**
+     * Retorna a coordenada de textura horizontal do centro de uma entrada da paleta.
+     *
+     * @param entry índice de cor do modelo ou {@link #BODY_ENTRY}
+     * @return coordenada u em [0, 1]
+     */
+    public static float paletteU(int entry) {
+        return (float) ((entry + 0.5) / PALETTE_ENTRIES);
+    }
+}
@@ -0,0 +1,206 @@
+package com.univasf.magiccube3d.view;
+
+import com.univasf.magiccube3d.model.FaceType;
+import javafx.scene.shape.CullFace;
+import javafx.scene.shape.MeshView;
+import javafx.scene.shape.TriangleMesh;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Renderizador do cubo N×N×N como uma única malha ({@link MeshView} com {@link TriangleMesh}).
+ * <p>
+ * O corpo do cubo e todos os facelets ficam na mesma malha, com um único material cuja textura é
+ * uma pequena imagem com as cores da paleta. A cor de cada facelet é escolhida pelos índices de
+ * coordenada de textura dos seus dois triângulos: trocar a cor de um facelet reescreve apenas esses
+ * seis índices, sem criar nós nem alterar a geometria. Em vez de um nó por peça e por facelet
+ * (cerca de 80 no cubo 3x3), a cena tem um nó para qualquer N.
+ * </p>
+ * <p>
+ * Os facelets são indexados como no modelo: face.ordinal() * N² + linha * N + coluna, com as
+ * posições do sistema de coordenadas da visualização (eixo Y para baixo, LEFT em +X, FRONT em +Z).
+ * </p>
+ */
+public class MeshCubeRenderer {
+
+    // Inteiros por triângulo no formato POINT_TEXCOORD (p0, t0, p1, t1, p2, t2)
+    private static final int FACE_INTS = 6;
+
+    private final int size;
+    private final TriangleMesh mesh = new TriangleMesh();
+    private final MeshView view = new MeshView(mesh);
+
+    // Cópia local dos triângulos: os facelets ocupam os primeiros 6 * N² * 2 triângulos
+    private final int[] faces;
+
+    /**
+     * Cria a malha de um cubo N×N×N no estado resolvido.
+     *
+     * @param size        quantidade de camadas (N)
+     * @param pitch       distância entre os centros de facelets vizinhos
+     * @param stickerSize lado de cada facelet (menor que {@code pitch}, deixando o corpo visível
+     *                    entre eles)
+     */
+    public MeshCubeRenderer(int size, double pitch, double stickerSize) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Tamanho inválido: " + size);
+        }
+        if (stickerSize <= 0 || stickerSize > pitch) {
+            throw new IllegalArgumentException("Tamanho do facelet inválido: " + stickerSize);
+        }
+        this.size = size;
+
+        for (int i = 0; i < MaterialCache.PALETTE_ENTRIES; i++) {
+            mesh.getTexCoords().addAll(MaterialCache.paletteU(i), 0.5f);
+        }
+
+        int stickers = 6 * size * size;
+        float[] points = new float[(stickers + 6) * 4 * 3];
+        faces = new int[(stickers + 6) * 2 * FACE_INTS];
+        double half = size * pitch / 2;
+        double surface = half + 0.5; // Facelets levemente acima do corpo, como na cena de nós
+        double center = (size - 1) / 2.0;
+
+        int quad = 0;
+        for (FaceType face : FaceType.values()) {
+            double[][] t = tangents(face);
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    double[] c = faceletCenter(face, (col - center) * pitch, (row - center) * pitch, surface);
+                    addQuad(points, quad++, c, t[0], t[1], stickerSize / 2, face.ordinal());
+                }
+            }
+        }
+        // Corpo: um quadrado por face logo abaixo dos facelets, com vértices próprios para que a
+        // iluminação de cada face não seja suavizada com as vizinhas
+        for (FaceType face : FaceType.values()) {
+            double[][] t = tangents(face);
+            addQuad(points, quad++, faceletCenter(face, 0, 0, half), t[0], t[1], half, MaterialCache.BODY_ENTRY);
+        }
+
+        mesh.getPoints().setAll(points);
+        mesh.getFaces().setAll(faces);
+        view.setMaterial(MaterialCache.palette()); // Compartilhado entre todas as malhas
+        // Os triângulos não seguem um sentido de enrolamento único; o teste de profundidade basta
+        view.setCullFace(CullFace.NONE);
+    }
+
+    /**
+     * Retorna o nó da malha, a ser adicionado à cena.
+     *
+     * @return nó da malha
+     */
+    public MeshView getNode() {
+        return view;
+    }
+
+    /**
+     * Retorna a quantidade de camadas do cubo.
+     *
+     * @return N
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Altera a cor de um facelet.
+     *
+     * @param index      índice do facelet (face.ordinal() * N² + linha * N + coluna)
+     * @param colorIndex índice de cor do modelo
+     */
+    public void setColor(int index, int colorIndex) {
+        writeColor(index, colorIndex);
+        mesh.getFaces().set(index * 2 * FACE_INTS, faces, index * 2 * FACE_INTS, 2 * FACE_INTS);
+    }
+
+    /**
+     * Altera a cor de vários facelets (por exemplo, os informados por um aviso do modelo),
+     * enviando à malha um único trecho com todos eles.
+     *
+     * @param indices índices dos facelets em {@code [0, count)}
+     * @param colors  índices de cor correspondentes
+     * @param count   quantidade de facelets alterados
+     */
+    public void setColors(int[] indices, int[] colors, int count) {
+        if (count == 0) {
+            return;
+        }
+        int first = Integer.MAX_VALUE, last = -1;
+        for (int i = 0; i < count; i++) {
+            writeColor(indices[i], colors[i]);
+            first = Math.min(first, indices[i]);
+            last = Math.max(last, indices[i]);
+        }
+        int offset = first * 2 * FACE_INTS;
+        mesh.getFaces().set(offset, faces, offset, (last - first + 1) * 2 * FACE_INTS);
+    }
+
+    /**
+     * Redefine a cor de todos os facelets.
+     *
+     * @param colorAt índice de cor de cada facelet, pelo índice do facelet
+     */
+    public void setAll(IntUnaryOperator colorAt) {
+        int stickers = 6 * size * size;
+        for (int i = 0; i < stickers; i++) {
+            writeColor(i, colorAt.applyAsInt(i));
+        }
+        mesh.getFaces().set(0, faces, 0, stickers * 2 * FACE_INTS);
+    }
+
+    private void writeColor(int index, int colorIndex) {
+        if (index < 0 || index >= 6 * size * size) {
+            throw new IllegalArgumentException("Facelet inválido: " + index);
+        }
+        if (colorIndex < 0 || colorIndex >= MaterialCache.BODY_ENTRY) {
+            throw new IllegalArgumentException("Cor inválida: " + colorIndex);
+        }
+        int base = index * 2 * FACE_INTS;
+        for (int k = 1; k < 2 * FACE_INTS; k += 2) {
+            faces[base + k] = colorIndex;
+        }
+    }
+
+    // Grava os 4 vértices e os 2 triângulos de um quadrado com centro c e meia largura "half"
+    private void addQuad(float[] points, int quad, double[] c, double[] u, double[] v, double half, int color) {
+        int p = quad * 4;
+        double[][] corners = { { -1, -1 }, { 1, -1 }, { 1, 1 }, { -1, 1 } };
+        for (int k = 0; k < 4; k++) {
+            for (int axis = 0; axis < 3; axis++) {
+                points[(p + k) * 3 + axis] = (float) (c[axis]
+                        + half * (corners[k][0] * u[axis] + corners[k][1] * v[axis]));
+            }
+        }
+        int[] triangles = { p, p + 1, p + 2, p, p + 2, p + 3 };
+        int base = quad * 2 * FACE_INTS;
+        for (int k = 0; k < triangles.length; k++) {
+            faces[base + 2 * k] = triangles[k];
+            faces[base + 2 * k + 1] = color;
+        }
+    }
+
+    // Centro do facelet na coluna/linha (já em unidades da cena, relativas ao centro da face)
+    private static double[] faceletCenter(FaceType face, double col, double row, double surface) {
+        return switch (face) {
+            case UP -> new double[] { col, -surface, row };
+            case DOWN -> new double[] { col, surface, -row };
+            case FRONT -> new double[] { col, row, surface };
+            case BACK -> new double[] { -col, row, -surface };
+            case LEFT -> new double[] { surface, row, col };
+            case RIGHT -> new double[] { -surface, row, -col };
+        };
+    }
+
+    // Direções em que a coluna e a linha crescem sobre a face (derivadas de faceletCenter)
+    private static double[][] tangents(FaceType face) {
+        double[] origin = faceletCenter(face, 0, 0, 0);
+        double[] colStep = faceletCenter(face, 1, 0, 0);
+        double[] rowStep = faceletCenter(face, 0, 1, 0);
+        for (int axis = 0; axis < 3; axis++) {
+            colStep[axis] -= origin[axis];
+            rowStep[axis] -= origin[axis];
+        }
+        return new double[][] { colStep, rowStep };
+    }
+}
@@ -0,0 +1,179 @@
+package com.univasf.magiccube3d.view;
+
+import com.univasf.magiccube3d.model.Move;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.geometry.Point3D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.transform.Rotate;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Anima os giros de camada da visualização 3D e só então aplica o movimento ao modelo.
+ * <p>
+ * Os nós da camada girada (peças e facelets) são movidos temporariamente para um grupo com uma
+ * transformação {@link Rotate}, que gira de 0 a 90° (ou 180°) em torno do eixo do movimento. Ao
+ * final, os nós voltam à posição original e o movimento é confirmado pelo callback: o modelo
+ * avisa as cores alteradas e a cena é repintada, sem recriar nós.
+ * </p>
+ * <p>
+ * Movimentos pedidos durante uma animação entram em uma fila e são animados em sequência. A
+ * duração de cada giro diminui conforme a fila cresce, e quando ela passa de
+ * {@value #MAX_BACKLOG} movimentos os mais antigos são confirmados sem animação: nenhum
+ * movimento é perdido e a visualização não fica atrasada em relação ao que foi digitado.
+ * </p>
+ * <p>
+ * Sem nós registrados (cena desenhada por {@link MeshCubeRenderer}) os movimentos são aplicados
+ * imediatamente, sem animação.
+ * </p>
+ */
+public class MoveAnimator {
+
+    /** Duração de um quarto de volta sem movimentos na fila, em milissegundos. */
+    public static final double BASE_MILLIS = 160;
+
+    /** Duração mínima de um giro animado, em milissegundos. */
+    public static final double MIN_MILLIS = 25;
+
+    /** Quantidade máxima de movimentos aguardando animação. */
+    public static final int MAX_BACKLOG = 8;
+
+    private static final Point3D[] AXES = { Rotate.X_AXIS, Rotate.Y_AXIS, Rotate.Z_AXIS };
+
+    private final Group cubeGroup;
+    private final Consumer<Move> commit;
+
+    // Nós registrados e a posição (x, y, z em -1..1) da peça a que pertencem
+    private final List<Node> nodes = new ArrayList<>();
+    private final List<int[]> positions = new ArrayList<>();
+
+    // Grupo que recebe temporariamente os nós da camada animada
+    private final Rotate layerRotate = new Rotate();
+    private final Group layerGroup = new Group();
+
+    private final ArrayDeque<Move> queue = new ArrayDeque<>();
+    private final List<Node> animated = new ArrayList<>();
+    private Timeline timeline;
+    private Move current;
+    private int startDepth; // Tamanho da fila quando o giro em curso começou
+
+    /**
+     * Cria o animador para o grupo que contém as peças do cubo.
+     *
+     * @param cubeGroup grupo com os nós da cena 3D (centrado na origem)
+     * @param commit    aplica um movimento ao modelo ao fim da sua animação
+     */
+    public MoveAnimator(Group cubeGroup, Consumer<Move> commit) {
+        this.cubeGroup = cubeGroup;
+        this.commit = commit;
+        layerGroup.getTransforms().add(layerRotate);
+        cubeGroup.getChildren().add(layerGroup);
+    }
+
+    /**
+     * Registra um nó da cena como parte da peça na posição informada.
+     *
+     * @param node nó (peça ou facelet)
+     * @param x    posição da peça no eixo X (-1, 0 ou 1)
+     * @param y    posição da peça no eixo Y (-1, 0 ou 1)
+     * @param z    posição da peça no eixo Z (-1, 0 ou 1)
+     */
+    public void register(Node node, int x, int y, int z) {
+        nodes.add(node);
+        positions.add(new int[] { x, y, z });
+    }
+
+    /**
+     * Coloca um movimento na fila de animação.
+     *
+     * @param move movimento a animar e aplicar
+     */
+    public void enqueue(Move move) {
+        if (nodes.isEmpty()) {
+            commit.accept(move); // Nada a animar (ex: cena de malha única): aplica imediatamente
+            return;
+        }
+        queue.add(move);
+        // Fila longa demais: confirma os mais antigos imediatamente (a começar pelo que está sendo
+        // animado, para manter a ordem) para alcançar a entrada
+        while (queue.size() > MAX_BACKLOG) {
+            if (current != null) {
+                timeline.stop();
+                finishCurrent();
+            } else {
+                commit.accept(queue.poll());
+            }
+        }
+        if (current == null) {
+            startNext();
+        } else {
+            // Acelera também o giro em curso, na proporção do crescimento da fila
+            timeline.setRate((1.0 + queue.size()) / (1 + startDepth));
+        }
+    }
+
+    /**
+     * Encerra a animação em curso e confirma todos os movimentos da fila sem animação. Deve ser
+     * chamado antes de operações que leem ou substituem o estado do modelo (embaralhar, resolver,
+     * desfazer, reiniciar).
+     */
+    public void finishAll() {
+        if (current != null) {
+            timeline.stop();
+            finishCurrent();
+        }
+        while (!queue.isEmpty()) {
+            commit.accept(queue.poll());
+        }
+    }
+
+    private void startNext() {
+        Move move = queue.poll();
+        if (move == null) {
+            return;
+        }
+        current = move;
+        int axis = move.axis();
+        for (int i = 0; i < nodes.size(); i++) {
+            int layer = positions.get(i)[axis] + 1; // Bit da camada na máscara do movimento
+            if ((move.layerMask() & (1 << layer)) != 0) {
+                animated.add(nodes.get(i));
+            }
+        }
+        cubeGroup.getChildren().removeAll(animated);
+        layerGroup.getChildren().setAll(animated);
+        layerRotate.setAxis(AXES[axis]);
+        layerRotate.setAngle(0);
+
+        // O giro segue a regra da mão direita nas coordenadas da cena, as mesmas do modelo
+        double angle = 90.0 * move.axisTurns();
+        startDepth = queue.size();
+        double millis = BASE_MILLIS * (move.quarterTurns() == 2 ? 1.5 : 1.0) / (1 + startDepth);
+        timeline = new Timeline(new KeyFrame(Duration.millis(Math.max(MIN_MILLIS, millis)),
+                new KeyValue(layerRotate.angleProperty(), angle, Interpolator.EASE_BOTH)));
+        timeline.setOnFinished(_ -> {
+            finishCurrent();
+            startNext();
+        });
+        timeline.play();
+    }
+
+    // Devolve os nós animados ao grupo do cubo e aplica o movimento ao modelo
+    private void finishCurrent() {
+        layerGroup.getChildren().clear();
+        layerRotate.setAngle(0);
+        cubeGroup.getChildren().addAll(animated);
+        animated.clear();
+        Move move = current;
+        current = null;
+        commit.accept(move);
+    }
+}